@@ -0,0 +1,117 @@
+#!/usr/bin/env bash
+#------------------------------------------------------------------------------
+# Source File:   STARTUP-BENCHMARK.SH
+# Copyright (c), 2026 CSoftZ
+#------------------------------------------------------------------------------
+# History
+# Oct.17/2026  COQ  File created.
+#------------------------------------------------------------------------------
+# Measures how fast each build of the application becomes ready and answers its
+# first request: the plain jar, the AOT-processed jar with a CDS archive and the
+# native executable. Modes whose build output is missing are skipped.
+#
+#   ./mvnw -Pnative -DskipTests native:compile    # target/country
+#   ./mvnw -Pcds -DskipTests package              # target/*.jar and target/cds
+#   scripts/startup-benchmark.sh [runs]
+#
+# The application needs its database, configured as usual, for instance with
+# SPRING_DATASOURCE_URL. Settings, all optional:
+#   RUNS          Measured runs per mode, after one discarded run (10).
+#   PORT          HTTP port the application listens on (18080).
+#   CPUS          CPU list to pin the application to with taskset, e.g. 0-1.
+#   JAVA_OPTS     Options for both JVM modes, e.g. -Xmx512m.
+#   FIRST_REQUEST Path of the first request timed (/api/v1/countries?limit=20).
+#
+# Results are written to target/startup/results.csv, one row per run, and the
+# median of each mode is printed at the end.
+#------------------------------------------------------------------------------
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-${RUNS:-10}}
+PORT=${PORT:-18080}
+FIRST_REQUEST=${FIRST_REQUEST:-/api/v1/countries?limit=20}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAR=$(find target -maxdepth 1 -name '*.jar' ! -name '*-plain.jar' | head -n 1)
+OUT=target/startup
+mkdir -p "$OUT"
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+command_for() {
+    case $1 in
+        jvm) [[ -n $JAR ]] && echo "$JAVA ${JAVA_OPTS:-} -jar $JAR" ;;
+        cds) [[ -f target/cds/application.jsa ]] &&
+            echo "$JAVA ${JAVA_OPTS:-} -XX:SharedArchiveFile=target/cds/application.jsa -Dspring.aot.enabled=true -jar target/cds/$(basename "$JAR")" ;;
+        native) [[ -x target/country ]] && echo "target/country" ;;
+    esac
+}
+
+# Starts one instance and prints: started (s, as logged), ready (ms), first request (ms), RSS (KB).
+measure() {
+    local mode=$1 log=$OUT/$1.log pid start ready first started rss
+    local -a cmd
+    read -r -a cmd <<< "$(command_for "$mode")"
+    [[ -n ${CPUS:-} ]] && cmd=(taskset -c "$CPUS" "${cmd[@]}")
+
+    start=$(now_ms)
+    "${cmd[@]}" --server.port="$PORT" > "$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$mode exited before it was ready, see $log" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+    ready=$(( $(now_ms) - start ))
+    if ! first=$(curl -sf -o /dev/null -w '%{time_total}' "http://localhost:$PORT$FIRST_REQUEST"); then
+        echo "$mode failed its first request, see $log" >&2
+        kill "$pid" 2> /dev/null || true
+        return 1
+    fi
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    started=$(grep -o 'Started Application in [0-9.]*' "$log" | grep -o '[0-9.]*$' || echo "")
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    awk -v s="$started" -v r="$ready" -v f="$first" -v m="$rss" 'BEGIN { printf "%s,%d,%.1f,%d\n", s, r, f * 1000, m }'
+}
+
+echo "mode,run,started_s,ready_ms,first_request_ms,rss_kb" > "$OUT/results.csv"
+{
+    echo "# $(date -u +%FT%TZ) $(uname -srm), $(nproc) CPUs, ${CPUS:+pinned to $CPUS, }$RUNS runs"
+    "$JAVA" -version 2>&1 | head -n 1
+} > "$OUT/environment.txt"
+
+for mode in jvm cds native; do
+    if [[ -z $(command_for "$mode") ]]; then
+        echo "Skipping $mode, it has not been built"
+        continue
+    fi
+    measure "$mode" > /dev/null
+    for run in $(seq 1 "$RUNS"); do
+        echo "$mode,$run,$(measure "$mode")" >> "$OUT/results.csv"
+    done
+done
+
+echo
+{
+    echo "mode,started_s,ready_ms,first_request_ms,rss_kb"
+    for mode in jvm cds native; do
+        grep -q "^$mode," "$OUT/results.csv" || continue
+        line=$mode
+        for column in 3 4 5 6; do
+            line+=,$(grep "^$mode," "$OUT/results.csv" | cut -d, -f"$column" | median)
+        done
+        echo "$line"
+    done
+} | column -t -s,
+echo "Medians of $RUNS runs; every run is in $OUT/results.csv"
@@ -0,0 +1,70 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   BENCHMARKDATABASE.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Seeded countries get unique codes.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.benchmark;
+
+import com.csoftz.country.config.CountryBatchProperties;
+import com.csoftz.country.config.CountryStreamingProperties;
+import com.csoftz.country.data.DefaultCountryData;
+import com.csoftz.country.data.HiLoCountryIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Oracle-mode H2 database holding a seeded country table behind a Hikari pool, with the
+ * JDBC data access wired on top of it the way the application does.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+    private final HikariDataSource dataSource;
+    final JdbcTemplate jdbcTemplate;
+    final DefaultCountryData countryData;
+
+    private BenchmarkDatabase(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.countryData = new DefaultCountryData(jdbcTemplate,
+            new HiLoCountryIdGenerator(() -> jdbcTemplate.queryForObject("SELECT country_seq.NEXTVAL FROM dual", Long.class),
+                50, 10, Runnable::run),
+            new DataSourceTransactionManager(dataSource),
+            new CountryStreamingProperties(500),
+            new CountryBatchProperties(100, 10_000));
+    }
+
+    /**
+     * Creates the database and seeds it with countries numbered from 1.
+     *
+     * @param name Indicates the name of the in-memory database.
+     * @param rows Indicates how many countries to insert.
+     * @return The seeded database.
+     */
+    static BenchmarkDatabase create(String name, int rows) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        BenchmarkDatabase database = new BenchmarkDatabase(dataSource);
+        database.jdbcTemplate.update("DELETE FROM country");
+        database.jdbcTemplate.update("""
+            INSERT INTO country (id, name, code, population)
+            SELECT X, CONCAT('Country ', X), CONCAT('C', X), X * 1000 FROM SYSTEM_RANGE(1, ?)""", rows);
+        return database;
+    }
+
+    @Override
+    public void close() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.close();
+    }
+}
@@ -0,0 +1,82 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCODECBENCHMARK.JAVA                                  */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.benchmark;
+
+import com.csoftz.country.domain.Country;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares encoding and decoding the country list as JSON and as CBOR, with the mappers
+ * Spring builds for each, on the sizes internal consumers pull. The payload size of each
+ * combination is printed when it is set up.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CountryCodecBenchmark {
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"200", "100000"})
+    public int size;
+
+    private List<Country> countries;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        countries = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> new Country(id, "Country " + id, "C" + (id % 1000), id * 1000))
+            .toList();
+        ObjectMapper mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Country.class));
+        reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, Country.class));
+        payload = writer.writeValueAsBytes(countries);
+        System.out.printf("%n%s payload for %d countries: %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(countries);
+    }
+
+    @Benchmark
+    public List<Country> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,96 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYJSONBENCHMARK.JAVA                                   */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.benchmark;
+
+import com.csoftz.country.common.json.CountryStreamWriter;
+import com.csoftz.country.domain.Country;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures serializing countries to JSON with an {@link ObjectMapper} configured the way
+ * Spring Boot configures it: a single country, and lists of several sizes both as a
+ * materialized list and through {@link CountryStreamWriter}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CountryJsonBenchmark {
+    @Param({"200", "10000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final CountryStreamWriter streamWriter = new CountryStreamWriter(objectMapper);
+    private Country country;
+    private List<Country> countries;
+
+    @Setup
+    public void setUp() {
+        country = new Country(1L, "Colombia", "CO", 52_000_000L);
+        countries = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> new Country(id, "Country " + id, "C" + (id % 1000), id * 1000))
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeCountry() throws IOException {
+        return objectMapper.writeValueAsBytes(country);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return objectMapper.writeValueAsBytes(countries);
+    }
+
+    @Benchmark
+    public long streamList(Blackhole blackhole) throws IOException {
+        return streamWriter.writeJsonArray(new BlackholeOutputStream(blackhole), countries::forEach);
+    }
+
+    private static final class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYRESPONSECACHEBENCHMARK.JAVA                          */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Wire the country index, turned off.
+ Oct.17/2026  COQ  Wire the population buffer.
+ Oct.17/2026  COQ  Follows the index refresh interval setting.
+ Oct.17/2026  COQ  Follows the version tracker taking the cache settings.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.benchmark;
+
+import com.csoftz.country.common.feed.CountryFeedReaderFactory;
+import com.csoftz.country.common.json.CountryStreamWriter;
+import com.csoftz.country.config.CountryBatchProperties;
+import com.csoftz.country.config.CountryCacheProperties;
+import com.csoftz.country.config.CountryImportProperties;
+import com.csoftz.country.config.CountryIndexProperties;
+import com.csoftz.country.config.CountryPopulationBufferProperties;
+import com.csoftz.country.config.CountryResponseCacheProperties;
+import com.csoftz.country.controller.api.v1.CountryController;
+import com.csoftz.country.data.CachingCountryData;
+import com.csoftz.country.service.CountryIndex;
+import com.csoftz.country.service.CountryPopulationBuffer;
+import com.csoftz.country.service.CountryResponseCache;
+import com.csoftz.country.service.CountryService;
+import com.csoftz.country.service.CountryVersionTracker;
+import com.csoftz.country.service.DefaultCountryImportService;
+import com.csoftz.country.service.DefaultCountryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares the controller read paths with the response body cache on and off, over a warm
+ * in-memory data cache so encoding is what is left to measure. Sample time mode reports the
+ * latency percentiles; run with {@code -prof gc} to compare the allocation rate.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryResponseCache
+ * @see CountryController
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CountryResponseCacheBenchmark {
+    private static final int ROWS = 250;
+
+    @Param({"on", "off"})
+    public String cache;
+
+    private BenchmarkDatabase database;
+    private ValidatorFactory validatorFactory;
+    private CountryController countryController;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.create("response-cache-" + cache, ROWS);
+        CachingCountryData countryData = new CachingCountryData(database.countryData, Duration.ofHours(1), ROWS);
+        countryData.findAll();
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CountryPopulationBuffer populationBuffer = new CountryPopulationBuffer(countryData,
+            new CountryPopulationBufferProperties(true, Duration.ofMillis(500), 10_000));
+        CountryService countryService = new DefaultCountryService(countryData, validator, event -> { },
+            new CountryIndex(countryData, new CountryIndexProperties(false, Duration.ofMinutes(5))), populationBuffer);
+        CountryResponseCacheProperties properties = new CountryResponseCacheProperties("on".equals(cache), Duration.ofHours(1), ROWS);
+        countryController = new CountryController(countryService,
+            new CountryStreamWriter(objectMapper),
+            new CountryBatchProperties(100, 10_000),
+            new CountryVersionTracker(new CountryCacheProperties(true, Duration.ofMinutes(5), 10_000)),
+            new DefaultCountryImportService(countryData, validator, event -> { }, new SimpleAsyncTaskExecutor(),
+                new CountryImportProperties(500, 2, 100), populationBuffer),
+            new CountryFeedReaderFactory(objectMapper),
+            new CountryResponseCache(objectMapper, properties));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+        database.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> retrieveById() {
+        return countryController.retrieveCountryById(ThreadLocalRandom.current().nextLong(1, ROWS + 1), null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> retrieveAll() {
+        return countryController.retrieveAllCountries(null, null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> retrieveAllGzip() {
+        return countryController.retrieveAllCountries(null, null, "gzip");
+    }
+}
@@ -0,0 +1,82 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYROWMAPPERBENCHMARK.JAVA                              */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.benchmark;
+
+import com.csoftz.country.data.CountryRowMapper;
+import com.csoftz.country.domain.Country;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Measures mapping one result set row to a {@link Country}, reading the columns by
+ * name (as {@link CountryRowMapper} does) against reading them by position.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CountryRowMapperBenchmark {
+    private static final RowMapper<Country> BY_INDEX = (rs, rowNum) -> new Country(
+        rs.getLong(1),
+        rs.getString(2),
+        rs.getString(3),
+        rs.getLong(4)
+    );
+
+    private final RowMapper<Country> byName = new CountryRowMapper();
+    private BenchmarkDatabase database;
+    private Connection connection;
+    private ResultSet resultSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        database = BenchmarkDatabase.create("row-mapper", 1);
+        connection = database.jdbcTemplate.getDataSource().getConnection();
+        Statement statement = connection.createStatement();
+        resultSet = statement.executeQuery("SELECT id, name, code, population FROM country");
+        resultSet.next();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        resultSet.close();
+        connection.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Country mapByColumnName() throws SQLException {
+        return byName.mapRow(resultSet, 1);
+    }
+
+    @Benchmark
+    public Country mapByColumnIndex() throws SQLException {
+        return BY_INDEX.mapRow(resultSet, 1);
+    }
+}
@@ -0,0 +1,164 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSERVICEBENCHMARK.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Wire the import collaborators of the controller.
+ Oct.17/2026  COQ  Wire the response cache of the controller, turned off.
+ Oct.17/2026  COQ  Added lookups by code and population range.
+ Oct.17/2026  COQ  Wire the population buffer.
+ Oct.17/2026  COQ  Looks up codes across every seeded country.
+ Oct.17/2026  COQ  Follows the index refresh interval setting.
+ Oct.17/2026  COQ  Follows the version tracker taking the cache settings.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.benchmark;
+
+import com.csoftz.country.common.json.CountryStreamWriter;
+import com.csoftz.country.common.feed.CountryFeedReaderFactory;
+import com.csoftz.country.config.CountryBatchProperties;
+import com.csoftz.country.config.CountryCacheProperties;
+import com.csoftz.country.config.CountryImportProperties;
+import com.csoftz.country.config.CountryIndexProperties;
+import com.csoftz.country.config.CountryPopulationBufferProperties;
+import com.csoftz.country.config.CountryResponseCacheProperties;
+import com.csoftz.country.controller.api.v1.CountryController;
+import com.csoftz.country.data.CachingCountryData;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountrySort;
+import com.csoftz.country.service.CountryIndex;
+import com.csoftz.country.service.CountryPopulationBuffer;
+import com.csoftz.country.service.CountryResponseCache;
+import com.csoftz.country.service.CountryService;
+import com.csoftz.country.service.CountryVersionTracker;
+import com.csoftz.country.service.DefaultCountryImportService;
+import com.csoftz.country.service.DefaultCountryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures the read paths from the controller down to the data access, against a warm
+ * in-memory cache and against the JDBC data access on an Oracle-mode H2 database. The
+ * code and population indexes are loaded only with the cache, so the JDBC runs measure the
+ * SQL used without them. The response body cache is off, so every controller call encodes
+ * its body.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryService
+ * @see CountryController
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CountryServiceBenchmark {
+    private static final int ROWS = 10_000;
+
+    @Param({"cached", "jdbc"})
+    public String data;
+
+    private BenchmarkDatabase database;
+    private ValidatorFactory validatorFactory;
+    private CountryService countryService;
+    private CountryController countryController;
+    private CountryQuery firstPage;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.create("service-" + data, ROWS);
+        CountryData countryData = database.countryData;
+        if ("cached".equals(data)) {
+            CachingCountryData cachingCountryData = new CachingCountryData(countryData, Duration.ofHours(1), ROWS);
+            cachingCountryData.findAll();
+            countryData = cachingCountryData;
+        }
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CountryIndex countryIndex = new CountryIndex(countryData, new CountryIndexProperties("cached".equals(data), Duration.ofMinutes(5)));
+        countryIndex.rebuild();
+        CountryPopulationBuffer populationBuffer = new CountryPopulationBuffer(countryData,
+            new CountryPopulationBufferProperties(true, Duration.ofMillis(500), 10_000));
+        countryService = new DefaultCountryService(countryData, validator, event -> { }, countryIndex, populationBuffer);
+        countryController = new CountryController(countryService,
+            new CountryStreamWriter(objectMapper),
+            new CountryBatchProperties(100, 10_000),
+            new CountryVersionTracker(new CountryCacheProperties(true, Duration.ofMinutes(5), 10_000)),
+            new DefaultCountryImportService(countryData, validator, event -> { }, new SimpleAsyncTaskExecutor(),
+                new CountryImportProperties(500, 2, 100), populationBuffer),
+            new CountryFeedReaderFactory(objectMapper),
+            new CountryResponseCache(objectMapper, new CountryResponseCacheProperties(false, Duration.ZERO, 0)));
+        firstPage = new CountryQuery(null, null, null, null, CountrySort.ID, 50, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<Country> serviceFindById() {
+        return countryService.findById(randomId());
+    }
+
+    @Benchmark
+    public List<Country> serviceFindAll() {
+        return countryService.findAll();
+    }
+
+    @Benchmark
+    public Optional<Country> serviceFindByCode() {
+        return countryService.findByCode("C" + randomId());
+    }
+
+    @Benchmark
+    public List<Country> serviceFindByPopulationBetween() {
+        // Populations are id * 1000, so the range holds 100 countries.
+        long min = randomId() * 1000;
+        return countryService.findByPopulationBetween(min, min + 99_000);
+    }
+
+    @Benchmark
+    public CountryPage serviceFindPage() {
+        return countryService.findPage(firstPage);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> controllerRetrieveById() {
+        return countryController.retrieveCountryById(randomId(), null, null);
+    }
+
+    private static long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, ROWS + 1);
+    }
+}
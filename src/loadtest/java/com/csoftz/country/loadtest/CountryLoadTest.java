@@ -0,0 +1,163 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYLOADTEST.JAVA                                        */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Seeded countries get unique codes.
+ Oct.17/2026  COQ  Reports the failed requests' latency next to the overall one.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.loadtest;
+
+import com.csoftz.country.Application;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Measures the capacity of the application under a repeatable load, without an Oracle
+ * instance or external tooling.
+ * <p>
+ * Starts the application on an Oracle-mode H2 database seeded with numbered countries,
+ * then drives each endpoint in turn at a fixed arrival rate with an {@link OpenLoopDriver},
+ * first to warm it up and then to measure it. For every endpoint it reports the throughput
+ * and the response time percentiles of all requests, failed ones included, with those of
+ * the failures alone beside them, and writes the full latency distribution as an HDR
+ * histogram percentile file that can be plotted or compared between releases.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see LoadTestOptions
+ */
+public final class CountryLoadTest {
+    private static final String DATABASE_URL = "jdbc:h2:mem:country-loadtest;MODE=Oracle;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final String DEVTOOLS_AUTO_CONFIGURATIONS =
+        "org.springframework.boot.devtools.autoconfigure.LocalDevToolsAutoConfiguration,"
+            + "org.springframework.boot.devtools.autoconfigure.DevToolsDataSourceAutoConfiguration";
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private CountryLoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // Developer tools are on the class path too; a restart would run the load test twice.
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Files.createDirectories(options.output());
+        seed(options.countries());
+
+        List<LoadResult> results = new ArrayList<>();
+        try (ConfigurableApplicationContext context = start(options);
+             HttpClient client = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .connectTimeout(options.timeout())
+                 .executor(Executors.newVirtualThreadPerTaskExecutor())
+                 .build()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            OpenLoopDriver driver = new OpenLoopDriver(client);
+            for (Endpoint endpoint : Endpoint.all(URI.create("http://localhost:" + port), options.countries(), options.timeout())) {
+                if (!options.endpoints().isEmpty() && !options.endpoints().contains(endpoint.name())) {
+                    continue;
+                }
+                System.out.printf("%s: warming up for %s, then measuring for %s at %d requests/s%n",
+                    endpoint.name(), options.warmup(), options.duration(), options.rate());
+                driver.run(endpoint, options.rate(), options.warmup());
+                results.add(driver.run(endpoint, options.rate(), options.duration()));
+            }
+        }
+
+        report(options, results);
+    }
+
+    private static void seed(int countries) {
+        DataSource dataSource = new DriverManagerDataSource(DATABASE_URL, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM country");
+        jdbcTemplate.update("""
+            INSERT INTO country (id, name, code, population)
+            SELECT X, CONCAT('Country ', X), CONCAT('C', X), X * 1000 FROM SYSTEM_RANGE(1, ?)""", countries);
+        // Identifiers are handed out in blocks of sequence values, all past the seeded ones.
+        jdbcTemplate.execute("ALTER SEQUENCE country_seq RESTART WITH " + (countries + 1));
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) throws IOException {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        // The test configuration shadows the one the application ships with on this class path.
+        properties.put("spring.config.location", new UrlResource(Application.class.getProtectionDomain()
+            .getCodeSource().getLocation()).createRelative("application.yaml").getURL());
+        properties.put("spring.datasource.url", DATABASE_URL);
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.autoconfigure.exclude", DEVTOOLS_AUTO_CONFIGURATIONS);
+        properties.put("server.port", "0");
+        properties.put("country.export.directory", options.output().resolve("export").toString());
+        properties.putAll(options.properties());
+        // Passed as arguments to take precedence over the configuration files on the classpath.
+        return new SpringApplicationBuilder(Application.class).run(properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new));
+    }
+
+    private static void report(LoadTestOptions options, List<LoadResult> results) throws IOException {
+        StringBuilder csv = new StringBuilder(
+            "endpoint,rate,sent,succeeded,failed,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms,"
+                + "failed_p99_ms,failed_max_ms\n");
+        StringWriter table = new StringWriter();
+        PrintWriter out = new PrintWriter(table);
+        out.printf("%n%d countries, %d requests/s per endpoint for %s, Java %s%n",
+            options.countries(), options.rate(), options.duration(), Runtime.version());
+        out.printf("%-18s %9s %7s %9s %9s %9s %9s %9s %11s %12s%n",
+            "endpoint", "req/s", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms", "fail p99 ms");
+        for (LoadResult result : results) {
+            Histogram latency = result.responseTime();
+            Histogram failures = result.failureTime();
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                result.endpoint(), result.rate(), result.sent(), result.succeeded(), result.failed(), result.throughput(),
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / MICROS_PER_MILLI, millis(result.serviceTime(), 99),
+                millis(failures, 99), failures.getMaxValue() / MICROS_PER_MILLI));
+            out.printf(Locale.ROOT, "%-18s %9.1f %7d %9.3f %9.3f %9.3f %9.3f %9.3f %11.3f %12.3f%n",
+                result.endpoint(), result.throughput(), result.failed(),
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / MICROS_PER_MILLI, millis(result.serviceTime(), 99), millis(failures, 99));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(options.output().resolve(result.endpoint() + ".hgrm")))) {
+                latency.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+        out.flush();
+
+        Files.writeString(options.output().resolve("summary.csv"), csv);
+        Files.writeString(options.output().resolve("summary.txt"), table.toString());
+        System.out.print(table);
+        System.out.printf("%nReports written to %s%n", options.output().toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,84 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   ENDPOINT.JAVA                                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Looks up codes across every seeded country.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * An endpoint of {@code /api/v1/countries} driven by the load test, with the requests sent
+ * to it. Each request picks its country at random among the seeded ones.
+ *
+ * @param name     Indicates the name the endpoint is reported and selected by.
+ * @param requests Uses the supplier of the requests to send.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+record Endpoint(String name, Supplier<HttpRequest> requests) {
+    private static final String JSON = "application/json";
+
+    /**
+     * Lists the endpoints of a running application.
+     *
+     * @param base      Uses the address the application listens on.
+     * @param countries Uses how many countries the database was seeded with.
+     * @param timeout   Uses how long a request may take.
+     * @return The endpoints, reads first.
+     */
+    static List<Endpoint> all(URI base, int countries, Duration timeout) {
+        Supplier<Long> id = () -> ThreadLocalRandom.current().nextLong(1, countries + 1);
+        Requests requests = new Requests(base, timeout);
+        return List.of(
+            new Endpoint("findAll", () -> requests.get("/api/v1/countries").build()),
+            new Endpoint("findAllGzip", () -> requests.get("/api/v1/countries").header("Accept-Encoding", "gzip").build()),
+            new Endpoint("findById", () -> requests.get("/api/v1/countries/" + id.get()).build()),
+            new Endpoint("findByCode", () -> requests.get("/api/v1/countries/code/C" + id.get()).build()),
+            new Endpoint("findPage", () -> requests.get("/api/v1/countries?limit=50&sort=population").build()),
+            new Endpoint("findByPopulation", () -> {
+                long min = id.get() * 1000;
+                return requests.get("/api/v1/countries?minPopulation=" + min + "&maxPopulation=" + (min + 100_000)).build();
+            }),
+            new Endpoint("findAllById", () -> requests.get("/api/v1/countries?ids=" + LongStream.range(0, 20)
+                .mapToObj(i -> String.valueOf(id.get()))
+                .collect(Collectors.joining(","))).build()),
+            new Endpoint("stats", () -> requests.get("/api/v1/countries/stats").build()),
+            new Endpoint("changes", () -> requests.get("/api/v1/countries/changes").build()),
+            new Endpoint("create", () -> requests.send("POST", "/api/v1/countries", country("Load", "LD"))),
+            new Endpoint("update", () -> requests.send("PUT", "/api/v1/countries/" + id.get(), country("Updated", "UP"))),
+            new Endpoint("updatePopulation", () -> requests.send("PATCH", "/api/v1/countries/" + id.get() + "/population",
+                "{\"population\":" + ThreadLocalRandom.current().nextLong(1, 1_000_000_000) + "}")));
+    }
+
+    private static String country(String name, String code) {
+        return "{\"name\":\"" + name + "\",\"code\":\"" + code + "\",\"population\":"
+            + ThreadLocalRandom.current().nextLong(1, 1_000_000_000) + "}";
+    }
+
+    private record Requests(URI base, Duration timeout) {
+
+        HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(base.resolve(path)).timeout(timeout).header("Accept", JSON).GET();
+        }
+
+        HttpRequest send(String method, String path, String body) {
+            return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(timeout)
+                .header("Accept", JSON)
+                .header("Content-Type", JSON)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+    }
+}
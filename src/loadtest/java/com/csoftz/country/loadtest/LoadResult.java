@@ -0,0 +1,52 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   LOADRESULT.JAVA                                             */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added failureTime; throughput is measured over the sending.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.loadtest;
+
+import java.time.Duration;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of driving one endpoint at a fixed rate.
+ *
+ * @param endpoint     Indicates the name of the endpoint.
+ * @param rate         Indicates the requests per second it was sent.
+ * @param sent         Indicates how many requests were sent.
+ * @param succeeded    Indicates how many got a 2xx or 304 response.
+ * @param failed       Indicates how many got another status, an error or no response in time.
+ * @param sending      Indicates the time over which the requests were sent.
+ * @param responseTime Indicates the latencies in microseconds of every request, failed ones
+ *                     included, from when each was due to be sent, so the time it waited
+ *                     behind slower ones is included.
+ * @param serviceTime  Indicates the latencies in microseconds of every request, from when each
+ *                     was actually sent, which hide that wait.
+ * @param failureTime  Indicates the latencies in microseconds of the failed requests alone, from
+ *                     when each was due to be sent; a timed out one took the timeout.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+record LoadResult(String endpoint,
+                  int rate,
+                  long sent,
+                  long succeeded,
+                  long failed,
+                  Duration sending,
+                  Histogram responseTime,
+                  Histogram serviceTime,
+                  Histogram failureTime) {
+
+    /**
+     * Gives the successful responses per second of sending. Responses still arriving after
+     * the last request was sent are counted, but the wait for them is not.
+     *
+     * @return The throughput achieved.
+     */
+    double throughput() {
+        return succeeded * 1_000_000_000.0 / Math.max(1, sending.toNanos());
+    }
+}
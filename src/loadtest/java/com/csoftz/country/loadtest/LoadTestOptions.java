@@ -0,0 +1,79 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   LOADTESTOPTIONS.JAVA                                        */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Options of a load test run, parsed from {@code --name=value} arguments. Arguments naming
+ * other settings, such as {@code --country.cache.enabled=false}, are passed on to the
+ * application under test.
+ *
+ * @param countries  Indicates how many countries the database is seeded with.
+ * @param rate       Indicates the requests per second sent to each endpoint, whatever the responses take.
+ * @param warmup     Indicates how long each endpoint is driven before it is measured.
+ * @param duration   Indicates how long each endpoint is measured.
+ * @param timeout    Indicates how long a request may take before it counts as failed.
+ * @param endpoints  Indicates the endpoints driven, all of them if empty.
+ * @param output     Indicates the directory the reports are written to.
+ * @param properties Indicates the settings passed on to the application.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+record LoadTestOptions(int countries,
+                       int rate,
+                       Duration warmup,
+                       Duration duration,
+                       Duration timeout,
+                       List<String> endpoints,
+                       Path output,
+                       Map<String, Object> properties) {
+
+    /**
+     * Parses the arguments of the load test.
+     *
+     * @param args Uses the command line arguments.
+     * @return The options, with defaults for those not given.
+     * @throws IllegalArgumentException If an argument is not of the {@code --name=value} form.
+     */
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+            Integer.parseInt(remove(values, "countries", "10000")),
+            Integer.parseInt(remove(values, "rate", "200")),
+            DurationStyle.detectAndParse(remove(values, "warmup", "10s")),
+            DurationStyle.detectAndParse(remove(values, "duration", "30s")),
+            DurationStyle.detectAndParse(remove(values, "timeout", "5s")),
+            Arrays.stream(remove(values, "endpoints", "").split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList(),
+            Path.of(remove(values, "output", "target/loadtest")),
+            new LinkedHashMap<>(values));
+        if (options.countries() < 1 || options.rate() < 1) {
+            throw new IllegalArgumentException("countries and rate must be positive");
+        }
+        return options;
+    }
+
+    private static String remove(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+}
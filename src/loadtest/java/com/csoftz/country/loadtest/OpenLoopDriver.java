@@ -0,0 +1,103 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   OPENLOOPDRIVER.JAVA                                         */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Failed and timed-out requests are recorded; throughput is measured over the sending.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sends requests at a fixed arrival rate, whether or not earlier ones were answered, the
+ * way independent clients arrive in production.
+ * <p>
+ * Each request is due at a point of a fixed schedule and sent from its own virtual thread,
+ * so a slow response never delays the next request. Latency is measured from the time a
+ * request was due rather than from when it was sent, which keeps coordinated omission out
+ * of the numbers: when the client itself falls behind, that wait counts too. Failed
+ * requests, timeouts included, are recorded as well, at the time they took to fail, so
+ * shedding load never makes the percentiles look better.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see LoadResult
+ */
+final class OpenLoopDriver {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient client;
+
+    OpenLoopDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Drives an endpoint and waits for every response.
+     *
+     * @param endpoint Uses the endpoint to send requests to.
+     * @param rate     Uses the requests per second.
+     * @param duration Uses how long requests are sent for.
+     * @return The {@link LoadResult} of the run.
+     */
+    LoadResult run(Endpoint endpoint, int rate, Duration duration) {
+        Histogram responseTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        Histogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        Histogram failureTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long period = 1_000_000_000L / rate;
+        long sent = 0;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sending;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < end; due += period) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long scheduled = due;
+                executor.execute(() -> {
+                    long sentAt = System.nanoTime();
+                    boolean ok = false;
+                    try {
+                        HttpResponse<Void> response = client.send(endpoint.requests().get(), HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() / 100 == 2 || response.statusCode() == 304;
+                    } catch (IOException e) {
+                        // Timeouts and refused connections count as failures below.
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    long done = System.nanoTime();
+                    responseTime.recordValue((done - scheduled) / 1000);
+                    serviceTime.recordValue((done - sentAt) / 1000);
+                    if (ok) {
+                        succeeded.increment();
+                    } else {
+                        failureTime.recordValue((done - scheduled) / 1000);
+                        failed.increment();
+                    }
+                });
+                sent++;
+            }
+            // Throughput is measured over the sending, not the wait for the last responses.
+            sending = System.nanoTime() - start;
+        }
+
+        return new LoadResult(endpoint.name(), rate, sent, succeeded.sum(), failed.sum(), Duration.ofNanos(sending),
+            responseTime, serviceTime, failureTime);
+    }
+}
@@ -5,11 +5,18 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Scan for configuration properties.
+ Oct.17/2026  COQ  Enabled scheduling for the export snapshots.
+ Oct.17/2026  COQ  Registered the runtime hints for native images.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country;
 
+import com.csoftz.country.config.CountryRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for running the application.
@@ -17,6 +24,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author COQ - Carlos Adolfo Ortiz Q.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
+@ImportRuntimeHints(CountryRuntimeHints.class)
 public class Application {
 
     public static void main(String[] args) {
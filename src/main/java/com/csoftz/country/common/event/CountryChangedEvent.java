@@ -0,0 +1,46 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGEDEVENT.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.event;
+
+import com.csoftz.country.domain.Country;
+
+/**
+ * Published after a country has been created, updated or deleted, so components keeping
+ * state derived from the country table can bring it up to date.
+ *
+ * @param type    Indicates what kind of change happened.
+ * @param id      Indicates the unique identifier of the changed country.
+ * @param country Indicates the country as persisted, or null when it was deleted.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see Country
+ */
+public record CountryChangedEvent(Type type, Long id, Country country) {
+
+    public static CountryChangedEvent saved(Country country) {
+        return new CountryChangedEvent(Type.SAVED, country.id(), country);
+    }
+
+    public static CountryChangedEvent deleted(Long id) {
+        return new CountryChangedEvent(Type.DELETED, id, null);
+    }
+
+    /**
+     * Kinds of change to the country table.
+     */
+    public enum Type {
+        /**
+         * The country was created or updated.
+         */
+        SAVED,
+        /**
+         * The country was deleted.
+         */
+        DELETED
+    }
+}
@@ -0,0 +1,25 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGESUNAVAILABLEEXCEPTION.JAVA                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.exception;
+
+/**
+ * Exception thrown when the changes after a position can no longer be listed, because the
+ * feed has dropped them or the position is not one it handed out.
+ * <br/><br/>
+ * It is answered with 410 Gone. The client is expected to read all countries again and
+ * follow the feed from its current position.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CountryChangesUnavailableException extends RuntimeException {
+
+    public CountryChangesUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYDATABUSYEXCEPTION.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a country data access call is shed because the database
+ * already serves as many concurrent calls as it has connections for.
+ * <br/><br/>
+ * It is answered with 503 Service Unavailable, telling the client when to try again.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CountryDataBusyException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public CountryDataBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retrieves how long the client should wait before retrying.
+     *
+     * @return The suggested wait.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
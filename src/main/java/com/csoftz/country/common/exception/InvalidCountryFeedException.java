@@ -0,0 +1,25 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   INVALIDCOUNTRYFEEDEXCEPTION.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.exception;
+
+/**
+ * Exception thrown when an imported country feed cannot be read at all, for instance
+ * because a CSV feed lacks the header naming its columns.
+ * <br/><br/>
+ * It is answered with 400 Bad Request. Individual bad records do not raise it; they are
+ * reported in the import summary instead.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class InvalidCountryFeedException extends RuntimeException {
+
+    public InvalidCountryFeedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYFEEDREADER.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.feed;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the records of a country feed one at a time, so a feed of any size is
+ * imported without holding it in memory.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryFeedRecord
+ */
+public interface CountryFeedReader extends Closeable {
+    /**
+     * Reads the next record of the feed. A record that cannot be parsed is returned
+     * with its error instead of ending the feed.
+     *
+     * @return The next {@link CountryFeedRecord}, or null at the end of the feed.
+     * @throws IOException If reading the underlying stream fails.
+     */
+    CountryFeedRecord read() throws IOException;
+}
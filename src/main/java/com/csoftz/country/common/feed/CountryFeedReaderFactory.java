@@ -0,0 +1,57 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYFEEDREADERFACTORY.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.feed;
+
+import com.csoftz.country.common.exception.InvalidCountryFeedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens the {@link CountryFeedReader} matching the media type of an imported feed.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CsvCountryFeedReader
+ * @see NdjsonCountryFeedReader
+ */
+@Component
+public class CountryFeedReaderFactory {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public CountryFeedReaderFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens a reader over the feed. Text is decoded with the charset of the media type,
+     * or UTF-8 if it has none.
+     *
+     * @param mediaType Indicates the type of the feed: text/csv or application/x-ndjson.
+     * @param in        Uses the stream holding the feed.
+     * @return The {@link CountryFeedReader} for the feed.
+     */
+    public CountryFeedReader open(MediaType mediaType, InputStream in) {
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        InputStreamReader reader = new InputStreamReader(in, charset);
+        if (TEXT_CSV.isCompatibleWith(mediaType)) {
+            return new CsvCountryFeedReader(reader);
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            return new NdjsonCountryFeedReader(reader, objectMapper);
+        }
+        throw new InvalidCountryFeedException("Unsupported feed type " + mediaType);
+    }
+}
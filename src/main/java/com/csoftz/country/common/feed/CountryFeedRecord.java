@@ -0,0 +1,31 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYFEEDRECORD.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.feed;
+
+import com.csoftz.country.domain.Country;
+
+/**
+ * One record read from a country feed.
+ *
+ * @param line    Indicates the line of the feed where the record starts.
+ * @param country Indicates the country read, or null if the record could not be parsed.
+ * @param error   Describes why the record could not be parsed, or null if it was.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryFeedReader
+ */
+public record CountryFeedRecord(long line, Country country, String error) {
+
+    public static CountryFeedRecord parsed(long line, Country country) {
+        return new CountryFeedRecord(line, country, null);
+    }
+
+    public static CountryFeedRecord malformed(long line, String error) {
+        return new CountryFeedRecord(line, null, error);
+    }
+}
@@ -0,0 +1,162 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CSVCOUNTRYFEEDREADER.JAVA                                   */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.feed;
+
+import com.csoftz.country.common.exception.InvalidCountryFeedException;
+import com.csoftz.country.domain.Country;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads countries from CSV (RFC 4180). The first line is a header naming at least the
+ * {@code name}, {@code code} and {@code population} columns, in any order; other columns
+ * are ignored. Fields may be quoted, with {@code ""} standing for a quote inside them.
+ * <p>
+ * Fields are capped at {@value #MAX_FIELD_LENGTH} characters, so a malformed feed cannot
+ * make a single record grow without bound.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CsvCountryFeedReader implements CountryFeedReader {
+    private static final int MAX_FIELD_LENGTH = 1024;
+
+    private final BufferedReader reader;
+    private long line = 1;
+    private boolean tooLong;
+    private int nameColumn = -1;
+    private int codeColumn = -1;
+    private int populationColumn = -1;
+
+    public CsvCountryFeedReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public CountryFeedRecord read() throws IOException {
+        if (nameColumn < 0) {
+            readHeader();
+        }
+
+        while (true) {
+            long start = line;
+            List<String> fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.getFirst().isEmpty()) {
+                continue;
+            }
+            return toRecord(start, fields);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readFields();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "name" -> nameColumn = i;
+                    case "code" -> codeColumn = i;
+                    case "population" -> populationColumn = i;
+                    default -> {
+                        // Not a country column.
+                    }
+                }
+            }
+        }
+        if (nameColumn < 0 || codeColumn < 0 || populationColumn < 0) {
+            throw new InvalidCountryFeedException("The CSV header must name the name, code and population columns");
+        }
+    }
+
+    private CountryFeedRecord toRecord(long start, List<String> fields) {
+        if (tooLong) {
+            return CountryFeedRecord.malformed(start, "Field longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        int columns = Math.max(nameColumn, Math.max(codeColumn, populationColumn)) + 1;
+        if (fields.size() < columns) {
+            return CountryFeedRecord.malformed(start, "Expected at least " + columns + " fields but found " + fields.size());
+        }
+
+        String population = fields.get(populationColumn).trim();
+        try {
+            return CountryFeedRecord.parsed(start, new Country(null,
+                fields.get(nameColumn),
+                fields.get(codeColumn),
+                population.isEmpty() ? null : Long.valueOf(population)));
+        } catch (NumberFormatException e) {
+            return CountryFeedRecord.malformed(start, "Population must be a whole number");
+        }
+    }
+
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        tooLong = false;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == -1) {
+                    quoted = false;
+                    continue;
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(field, c);
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = reader.read();
+                continue;
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                append(field, c);
+            }
+            fieldStart = false;
+            c = reader.read();
+        }
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append((char) c);
+        } else {
+            tooLong = true;
+        }
+    }
+}
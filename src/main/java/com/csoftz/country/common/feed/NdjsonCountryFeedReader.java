@@ -0,0 +1,60 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   NDJSONCOUNTRYFEEDREADER.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.feed;
+
+import com.csoftz.country.domain.Country;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads countries from newline delimited JSON (NDJSON), one JSON object per line. Blank
+ * lines are skipped; a line that is not a valid country is reported on its own without
+ * affecting the next ones.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class NdjsonCountryFeedReader implements CountryFeedReader {
+    private final BufferedReader reader;
+    private final ObjectReader countryReader;
+    private long line;
+
+    public NdjsonCountryFeedReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.countryReader = objectMapper.readerFor(Country.class);
+    }
+
+    @Override
+    public CountryFeedRecord read() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                Country country = countryReader.readValue(text);
+                return country != null
+                    ? CountryFeedRecord.parsed(line, country)
+                    : CountryFeedRecord.malformed(line, "Expected a JSON object");
+            } catch (JsonProcessingException e) {
+                return CountryFeedRecord.malformed(line, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,117 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTREAMWRITER.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  A failing source leaves the JSON array unterminated.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.json;
+
+import com.csoftz.country.domain.Country;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link Country} rows to an {@link OutputStream} one at a time as they are
+ * produced, either as a JSON array or as newline delimited JSON (NDJSON), so the
+ * complete list never has to be held in memory.
+ * <p>
+ * When the source fails part way, the array is left open, so a client can tell the
+ * truncated document from a complete one even though the response status was already sent.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see Country
+ */
+@Component
+public class CountryStreamWriter {
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter countryWriter;
+
+    public CountryStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.countryWriter = objectMapper.writerFor(Country.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every country produced by the source as the elements of a single JSON array.
+     *
+     * @param out    Uses the stream receiving the JSON document. It is flushed but not closed.
+     * @param source Indicates where the countries come from.
+     * @return The number of countries written.
+     * @throws IOException If writing to the stream fails.
+     */
+    public long writeJsonArray(OutputStream out, CountrySource source) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartArray();
+            long count = write(generator, source, false);
+            generator.writeEndArray();
+            return count;
+        }
+    }
+
+    /**
+     * Writes every country produced by the source as one JSON object per line.
+     *
+     * @param out    Uses the stream receiving the NDJSON lines. It is flushed but not closed.
+     * @param source Indicates where the countries come from.
+     * @return The number of countries written.
+     * @throws IOException If writing to the stream fails.
+     */
+    public long writeNdjson(OutputStream out, CountrySource source) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            return write(generator, source, true);
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private long write(JsonGenerator generator, CountrySource source, boolean lineDelimited) throws IOException {
+        long[] count = {0};
+        try {
+            source.forEach(country -> {
+                try {
+                    countryWriter.writeValue(generator, country);
+                    if (lineDelimited) {
+                        generator.writeRaw('\n');
+                    }
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    /**
+     * Produces countries one by one, typically straight from a JDBC result set.
+     */
+    @FunctionalInterface
+    public interface CountrySource {
+        /**
+         * Passes every country to the given action.
+         *
+         * @param action Uses the callback receiving each country.
+         */
+        void forEach(Consumer<Country> action);
+    }
+}
@@ -0,0 +1,24 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYBATCHPROPERTIES.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for saving countries in batches.
+ *
+ * @param chunkSize Indicates how many rows are sent to the database in each JDBC batch.
+ * @param maxSize   Indicates the maximum number of countries accepted in a single request.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.batch")
+public record CountryBatchProperties(@DefaultValue("100") int chunkSize,
+                                     @DefaultValue("10000") int maxSize) {
+}
@@ -0,0 +1,32 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYBULKHEADPROPERTIES.JAVA                              */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Documented a bulkhead per database.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the bulkhead limiting concurrent calls to the country table. With a read
+ * replica configured, the primary and the replica each get a bulkhead of their own.
+ *
+ * @param enabled            Indicates whether database calls go through the bulkhead.
+ * @param maxConcurrentCalls Indicates how many calls may run at once on each database. Zero or
+ *                           less uses the maximum size of that database's connection pool.
+ * @param maxWait            Indicates how long a call may wait for a free slot before being shed.
+ * @param retryAfter         Indicates the wait suggested to clients whose request was shed.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.bulkhead")
+public record CountryBulkheadProperties(@DefaultValue("true") boolean enabled,
+                                        @DefaultValue("0") int maxConcurrentCalls,
+                                        @DefaultValue("50ms") Duration maxWait,
+                                        @DefaultValue("1s") Duration retryAfter) {
+}
@@ -0,0 +1,28 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCACHEPROPERTIES.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the in-memory read-through cache placed in front of the country table.
+ *
+ * @param enabled     Indicates whether the cache wraps the JDBC data access.
+ * @param ttl         Indicates how long a loaded snapshot or entry is served before reloading it.
+ * @param maximumSize Indicates the maximum number of countries held in memory. Tables bigger
+ *                    than this are not snapshotted, and single entries are evicted oldest first.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.cache")
+public record CountryCacheProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("5m") Duration ttl,
+                                     @DefaultValue("10000") int maximumSize) {
+}
@@ -0,0 +1,29 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGEFEEDPROPERTIES.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the feed of changes to the country table.
+ *
+ * @param capacity      Indicates how many of the latest changes are kept for clients to catch up with.
+ * @param maxPageSize   Indicates the largest number of changes answered in one page or stream read.
+ * @param streamTimeout Indicates how long a Server-Sent Events stream stays open before the client reconnects.
+ * @param heartbeat     Indicates how often an idle stream is written to, so dropped clients are noticed.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.changes")
+public record CountryChangeFeedProperties(@DefaultValue("10000") int capacity,
+                                          @DefaultValue("1000") int maxPageSize,
+                                          @DefaultValue("30m") Duration streamTimeout,
+                                          @DefaultValue("15s") Duration heartbeat) {
+}
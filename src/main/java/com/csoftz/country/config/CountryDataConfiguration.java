@@ -0,0 +1,151 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYDATACONFIGURATION.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added the hi/lo identifier generator.
+ Oct.17/2026  COQ  Added the database bulkhead below the cache.
+ Oct.17/2026  COQ  Added metrics on the JDBC data access, the bulkhead and the cache.
+ Oct.17/2026  COQ  Route reads to the read replica when one is configured.
+ Oct.17/2026  COQ  One bulkhead per database, each sized to its own pool.
+ Oct.17/2026  COQ  Data access meters carry the target database.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import com.csoftz.country.data.BulkheadCountryData;
+import com.csoftz.country.data.CachingCountryData;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.data.CountryIdGenerator;
+import com.csoftz.country.data.DefaultCountryData;
+import com.csoftz.country.data.HiLoCountryIdGenerator;
+import com.csoftz.country.data.MeteredCountryData;
+import com.csoftz.country.data.RoutingCountryData;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+/**
+ * Assembles the {@link CountryData} used by the services, layering metrics, the optional
+ * bulkhead and read-through cache on top of the JDBC implementation, and the
+ * {@link CountryIdGenerator} assigning identifiers to new countries.
+ * <p>
+ * The cache sits above the bulkhead, so reads served from memory never take a database slot.
+ * The metrics sit right on the JDBC implementation, so their timers hold database time only;
+ * the bulkhead and cache publish their own gauges. With a read replica configured, a
+ * {@link RoutingCountryData} below the cache sends reads to a second JDBC implementation on
+ * the replica. Each database then has a bulkhead of its own, sized to its own pool, so
+ * replica slots never let more calls through to the primary than its pool holds.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see DefaultCountryData
+ * @see MeteredCountryData
+ * @see BulkheadCountryData
+ * @see CachingCountryData
+ * @see RoutingCountryData
+ */
+@Configuration(proxyBeanMethods = false)
+public class CountryDataConfiguration {
+
+    @Bean
+    @Primary
+    public CountryData countryData(DefaultCountryData defaultCountryData,
+                                   DataSource dataSource,
+                                   @Qualifier("replica") ObjectProvider<DataSource> replicaDataSource,
+                                   CountryIdGenerator idGenerator,
+                                   CountryStreamingProperties streamingProperties,
+                                   CountryBatchProperties batchProperties,
+                                   CountryReplicaProperties replicaProperties,
+                                   CountryBulkheadProperties bulkheadProperties,
+                                   CountryCacheProperties cacheProperties,
+                                   MeterRegistry meterRegistry) {
+        CountryData countryData = guard(defaultCountryData, dataSource, "primary", bulkheadProperties, meterRegistry);
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replica);
+            replicaJdbcTemplate.setFetchSize(replicaProperties.fetchSize());
+            DefaultCountryData replicaCountryData = new DefaultCountryData(replicaJdbcTemplate, idGenerator,
+                new JdbcTransactionManager(replica), streamingProperties, batchProperties);
+            RoutingCountryData routing = new RoutingCountryData(countryData,
+                guard(replicaCountryData, replica, "replica", bulkheadProperties, meterRegistry),
+                replicaProperties.stickiness());
+            FunctionCounter.builder("country.data.reads", routing, RoutingCountryData::primaryReads)
+                .description("Country reads by the database they were sent to")
+                .tag("target", "primary")
+                .register(meterRegistry);
+            FunctionCounter.builder("country.data.reads", routing, RoutingCountryData::replicaReads)
+                .description("Country reads by the database they were sent to")
+                .tag("target", "replica")
+                .register(meterRegistry);
+            countryData = routing;
+        }
+        if (cacheProperties.enabled()) {
+            CachingCountryData cache = new CachingCountryData(countryData, cacheProperties.ttl(), cacheProperties.maximumSize());
+            FunctionCounter.builder("country.cache.gets", cache, c -> c.stats().hits())
+                .description("Country reads answered by the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+            FunctionCounter.builder("country.cache.gets", cache, c -> c.stats().misses())
+                .description("Country reads answered by the cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+            Gauge.builder("country.cache.size", cache, c -> c.stats().size())
+                .description("Countries held in the cache")
+                .register(meterRegistry);
+            countryData = cache;
+        }
+        return countryData;
+    }
+
+    @Bean
+    public CountryIdGenerator countryIdGenerator(JdbcTemplate jdbcTemplate,
+                                                 CountryIdProperties idProperties,
+                                                 @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        return new HiLoCountryIdGenerator(
+            () -> jdbcTemplate.queryForObject("SELECT country_seq.NEXTVAL FROM dual", Long.class),
+            idProperties.blockSize(), idProperties.prefetchThreshold(), executor);
+    }
+
+    // Meters the JDBC implementation on one database and, when enabled, puts a bulkhead sized to its pool over it.
+    private static CountryData guard(CountryData countryData, DataSource dataSource, String target,
+                                     CountryBulkheadProperties bulkheadProperties, MeterRegistry meterRegistry) {
+        CountryData metered = new MeteredCountryData(countryData, meterRegistry, target);
+        if (!bulkheadProperties.enabled()) {
+            return metered;
+        }
+        int maxConcurrentCalls = bulkheadProperties.maxConcurrentCalls() > 0
+            ? bulkheadProperties.maxConcurrentCalls()
+            : maximumPoolSize(dataSource);
+        BulkheadCountryData bulkhead = new BulkheadCountryData(metered, maxConcurrentCalls,
+            bulkheadProperties.maxWait(), bulkheadProperties.retryAfter());
+        Gauge.builder("country.bulkhead.available", bulkhead, BulkheadCountryData::availablePermits)
+            .description("Database slots free right now")
+            .tag("target", target)
+            .register(meterRegistry);
+        FunctionCounter.builder("country.bulkhead.rejected", bulkhead, BulkheadCountryData::rejectedCalls)
+            .description("Calls rejected because every database slot was busy")
+            .tag("target", target)
+            .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Set country.bulkhead.max-concurrent-calls for a non Hikari DataSource", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYEXPORTPROPERTIES.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Documented the directory of each instance.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the pre-rendered export snapshots of the country table.
+ *
+ * @param directory       Indicates where the snapshot files are written, each instance in a directory
+ *                        of its own below it.
+ * @param debounce        Indicates how long after a change the snapshots are rendered again, so a burst
+ *                        of writes costs a single rendering.
+ * @param refreshInterval Indicates how often the snapshots are rendered again regardless of changes, to
+ *                        pick up writes made outside the application.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.export")
+public record CountryExportProperties(@DefaultValue("country-export") Path directory,
+                                      @DefaultValue("2s") Duration debounce,
+                                      @DefaultValue("15m") Duration refreshInterval) {
+}
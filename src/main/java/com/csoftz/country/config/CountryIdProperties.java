@@ -0,0 +1,27 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYIDPROPERTIES.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for allocating country identifiers in blocks from {@code country_seq}.
+ *
+ * @param blockSize         Indicates how many identifiers each sequence value reserves. It may be
+ *                          raised, but must never be lowered once identifiers have been handed out,
+ *                          or new blocks would overlap old ones.
+ * @param prefetchThreshold Indicates how many identifiers may remain in the current block when the
+ *                          next one starts being reserved in the background.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.id")
+public record CountryIdProperties(@DefaultValue("50") int blockSize,
+                                  @DefaultValue("10") int prefetchThreshold) {
+}
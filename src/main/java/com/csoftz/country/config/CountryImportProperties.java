@@ -0,0 +1,26 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYIMPORTPROPERTIES.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for importing country feeds.
+ *
+ * @param chunkSize         Indicates how many countries are written to the database in each transaction.
+ * @param queueCapacity     Indicates how many parsed chunks may wait for the writer before parsing blocks.
+ * @param maxReportedErrors Indicates how many rejected records are described in the import summary.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.import")
+public record CountryImportProperties(@DefaultValue("500") int chunkSize,
+                                      @DefaultValue("2") int queueCapacity,
+                                      @DefaultValue("100") int maxReportedErrors) {
+}
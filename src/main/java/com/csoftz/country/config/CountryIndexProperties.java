@@ -0,0 +1,28 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYINDEXPROPERTIES.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added refreshInterval.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the in-memory indexes on country code and population.
+ *
+ * @param enabled         Indicates whether lookups by code and population range are answered from
+ *                        memory instead of the database.
+ * @param refreshInterval Indicates how often the indexes are loaded again, to pick up writes made by
+ *                        other instances or outside the application, or to retry a failed load.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.index")
+public record CountryIndexProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("5m") Duration refreshInterval) {
+}
@@ -0,0 +1,28 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYPOPULATIONBUFFERPROPERTIES.JAVA                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the write-behind buffer of population updates.
+ *
+ * @param enabled       Indicates whether population updates are buffered; when off they are written at once.
+ * @param flushInterval Indicates how long a buffered population may wait before it is written.
+ * @param maxPending    Indicates how many countries may have a buffered population before the
+ *                      buffer is written without waiting for the interval.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.population-buffer")
+public record CountryPopulationBufferProperties(@DefaultValue("true") boolean enabled,
+                                                @DefaultValue("500ms") Duration flushInterval,
+                                                @DefaultValue("10000") int maxPending) {
+}
@@ -0,0 +1,55 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYREPLICACONFIGURATION.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Documented the condition is fixed by ahead-of-time builds.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Creates the connection pool of the read replica when {@code country.replica.enabled} is set.
+ * <p>
+ * Its beans are not default candidates, so they are only injected where asked for by the
+ * {@code replica} qualifier and {@code spring.datasource} stays the one
+ * {@link javax.sql.DataSource} of the application, used for writes, transactions and
+ * everything else. Connections are read-only, so a write sent to the replica by mistake fails.
+ * <p>
+ * Ahead-of-time builds, native or CDS, evaluate the condition when they are processed, so
+ * {@code country.replica.enabled} must be set for the build; setting it at runtime does nothing.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryDataConfiguration
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "country.replica.enabled", havingValue = "true")
+public class CountryReplicaConfiguration {
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("country.replica.datasource")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @Qualifier("replica")
+    @ConfigurationProperties("country.replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replica") DataSourceProperties replicaDataSourceProperties) {
+        HikariDataSource dataSource = replicaDataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
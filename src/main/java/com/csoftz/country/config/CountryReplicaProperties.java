@@ -0,0 +1,29 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYREPLICAPROPERTIES.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for reading countries from a read replica. The replica connection itself is set
+ * under {@code country.replica.datasource}, like {@code spring.datasource}, with its pool
+ * under {@code country.replica.datasource.hikari}.
+ *
+ * @param enabled    Indicates whether reads are sent to the replica.
+ * @param stickiness Indicates how long reads stay on the primary after a write, zero for not at all.
+ * @param fetchSize  Indicates how many rows are fetched per round trip from the replica.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.replica")
+public record CountryReplicaProperties(@DefaultValue("false") boolean enabled,
+                                       @DefaultValue("1s") Duration stickiness,
+                                       @DefaultValue("500") int fetchSize) {
+}
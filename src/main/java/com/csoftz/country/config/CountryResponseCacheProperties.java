@@ -0,0 +1,27 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYRESPONSECACHEPROPERTIES.JAVA                         */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the cache of encoded country response bodies.
+ *
+ * @param enabled     Indicates whether encoded bodies are kept between requests.
+ * @param ttl         Indicates how long an encoded body is served before encoding it again.
+ * @param maximumSize Indicates the maximum number of single country bodies held in memory.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.response-cache")
+public record CountryResponseCacheProperties(@DefaultValue("true") boolean enabled,
+                                             @DefaultValue("5m") Duration ttl,
+                                             @DefaultValue("10000") int maximumSize) {
+}
@@ -0,0 +1,61 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYRUNTIMEHINTS.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryChange;
+import com.csoftz.country.domain.CountryChangePage;
+import com.csoftz.country.domain.CountryImportResult;
+import com.csoftz.country.domain.CountryLookupResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryPopulation;
+import com.csoftz.country.domain.CountryStats;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Registers what a native image of the application reaches through reflection and Spring
+ * cannot infer from the bean definitions while processing them ahead of time.
+ * <p>
+ * Types bound from handler method signatures are registered by Spring already. The ones
+ * here are also written or read outside of them: with Jackson writers and readers built
+ * by hand for cached bodies, exports and imported feeds, as Server-Sent Events data, and
+ * checked with a {@link jakarta.validation.Validator} outside of request binding. The
+ * Oracle driver brings its own configuration for its internals, but is loaded by the name
+ * in {@code spring.datasource.driver-class-name}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see BindingReflectionHintsRegistrar
+ */
+public class CountryRuntimeHints implements RuntimeHintsRegistrar {
+    static final String ORACLE_DRIVER = "oracle.jdbc.OracleDriver";
+
+    private static final Class<?>[] BOUND_TYPES = {
+        Country.class, CountryPopulation.class, CountryPage.class, CountryLookupResult.class,
+        CountryBatchResult.class, CountryImportResult.class, CountryStats.class,
+        CountryChange.class, CountryChangePage.class
+    };
+
+    private static final List<TypeReference> CONSTRAINTS = TypeReference.listOf(NotNull.class, Size.class, Min.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+        hints.reflection().registerTypes(CONSTRAINTS, builder -> builder.withMembers(MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.reflection().registerType(TypeReference.of(ORACLE_DRIVER), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
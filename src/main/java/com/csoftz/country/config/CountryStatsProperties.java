@@ -0,0 +1,27 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTATSPROPERTIES.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the aggregate statistics of the country table.
+ *
+ * @param enabled     Indicates whether the statistics are loaded and kept up to date.
+ * @param topSize     Indicates how many of the most populated countries are listed.
+ * @param percentiles Indicates the population quantiles reported, each between 0 and 1.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.stats")
+public record CountryStatsProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("10") int topSize,
+                                     @DefaultValue({"0.5", "0.9", "0.99"}) List<Double> percentiles) {
+}
@@ -0,0 +1,22 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTREAMINGPROPERTIES.JAVA                             */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for streaming the country table to clients row by row.
+ *
+ * @param fetchSize Indicates how many rows the JDBC driver pulls per round trip while streaming.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("country.streaming")
+public record CountryStreamingProperties(@DefaultValue("500") int fetchSize) {
+}
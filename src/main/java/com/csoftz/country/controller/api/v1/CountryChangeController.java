@@ -0,0 +1,115 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGECONTROLLER.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import com.csoftz.country.common.exception.CountryChangesUnavailableException;
+import com.csoftz.country.config.CountryChangeFeedProperties;
+import com.csoftz.country.domain.CountryChangePage;
+import com.csoftz.country.service.CountryChangeFeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller serving the feed of changes to the country table, so clients keeping a
+ * copy of it fetch only what changed instead of all countries again.
+ * <p>
+ * Uses the {@code /api/v1/countries/changes} base path. A client reads all countries once
+ * after asking for the current position, then follows the feed from it, either by asking
+ * for the changes since its last position or by keeping a Server-Sent Events stream open.
+ * Applying a change twice is harmless, as each one carries the whole country.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChangeFeed
+ */
+@RestController
+@RequestMapping("/api/v1/countries/changes")
+public class CountryChangeController {
+    private static final Logger logger = LoggerFactory.getLogger(CountryChangeController.class);
+
+    private final CountryChangeFeed changeFeed;
+    private final CountryChangeStreams changeStreams;
+    private final int maxPageSize;
+
+    public CountryChangeController(CountryChangeFeed changeFeed, CountryChangeStreams changeStreams,
+                                   CountryChangeFeedProperties properties) {
+        this.changeFeed = changeFeed;
+        this.changeStreams = changeStreams;
+        this.maxPageSize = properties.maxPageSize();
+    }
+
+    /**
+     * Retrieves the changes after a position, or just the current position when none is given.
+     * <p>
+     * GET /api/v1/countries/changes?since=N&amp;limit=M
+     *
+     * @param since Uses the position after which changes are listed.
+     * @param limit Uses the largest number of changes listed, the configured page size if absent.
+     * @return A {@link ResponseEntity} containing the {@link CountryChangePage}, a 400 Bad
+     * Request status if the limit is out of range, or a 410 Gone status if the changes
+     * after the position were dropped.
+     * @see CountryChangePage
+     */
+    @GetMapping
+    public ResponseEntity<CountryChangePage> retrieveChanges(@RequestParam(required = false) Long since,
+                                                             @RequestParam(required = false) Integer limit) {
+        logger.debug("GET /api/v1/countries/changes?since={}&limit={}", since, limit);
+
+        int size = limit == null ? maxPageSize : limit;
+        if (size < 1 || size > maxPageSize) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(changeFeed.changesSince(since == null ? changeFeed.latest() : since, size));
+    }
+
+    /**
+     * Streams the changes after a position as Server-Sent Events named {@code change}, each
+     * with its position as the event id so a reconnecting client resumes where it left off.
+     * <p>
+     * GET /api/v1/countries/changes/stream?since=N
+     *
+     * @param since       Uses the position after which changes are sent.
+     * @param lastEventId Uses the position a reconnecting client received last, taking
+     *                    precedence over {@code since}. Only new changes are sent if both are absent.
+     * @return The {@link SseEmitter} writing the stream, or a 410 Gone status if the changes
+     * after the position were dropped.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.debug("GET /api/v1/countries/changes/stream?since={} Last-Event-ID={}", since, lastEventId);
+
+        Long position = lastEventId != null ? lastEventId : since;
+        return changeStreams.open(position == null ? changeFeed.latest() : position);
+    }
+
+    /**
+     * Tells a client its position is too old, so it reads all countries again.
+     *
+     * @param e Uses the exception describing the position.
+     * @return A {@link ResponseEntity} with a 410 Gone status and the problem detail.
+     */
+    @ExceptionHandler(CountryChangesUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleCountryChangesUnavailable(CountryChangesUnavailableException e) {
+        logger.debug("Changes unavailable: {}", e.getMessage());
+
+        return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.GONE, e.getMessage())).build();
+    }
+}
@@ -0,0 +1,153 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGESTREAMS.JAVA                                   */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Streams run on virtual threads of their own instead of the application task executor.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import com.csoftz.country.common.exception.CountryChangesUnavailableException;
+import com.csoftz.country.config.CountryChangeFeedProperties;
+import com.csoftz.country.domain.CountryChange;
+import com.csoftz.country.domain.CountryChangePage;
+import com.csoftz.country.service.CountryChangeFeed;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams the change feed to clients as Server-Sent Events.
+ * <p>
+ * Each stream is written by its own task, which waits on the {@link CountryChangeFeed} for
+ * the changes after the last one sent, so a slow client holds up neither writers nor other
+ * clients. The tasks run on virtual threads of their own rather than the application task
+ * executor, since each one waits for up to the stream timeout and would otherwise starve
+ * the id prefetch and the import writers sharing that executor. A client that falls behind further than the feed reaches is sent a
+ * {@code reset} event and the stream is closed. Streams are closed before the web server
+ * shuts down, so they do not hold up its graceful shutdown.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChangeFeed
+ */
+@Component
+class CountryChangeStreams implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(CountryChangeStreams.class);
+
+    private final CountryChangeFeed changeFeed;
+    private final AsyncTaskExecutor executor;
+    private final int pageSize;
+    private final Duration streamTimeout;
+    private final Duration heartbeat;
+    private final Set<Stream> streams = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    CountryChangeStreams(CountryChangeFeed changeFeed, CountryChangeFeedProperties properties) {
+        SimpleAsyncTaskExecutor streamExecutor = new SimpleAsyncTaskExecutor("country-changes-");
+        streamExecutor.setVirtualThreads(true);
+        this.changeFeed = changeFeed;
+        this.executor = streamExecutor;
+        this.pageSize = properties.maxPageSize();
+        this.streamTimeout = properties.streamTimeout();
+        this.heartbeat = properties.heartbeat();
+    }
+
+    /**
+     * Opens a stream of the changes after a position.
+     *
+     * @param since Uses the position after which changes are sent.
+     * @return The {@link SseEmitter} writing the stream.
+     * @throws CountryChangesUnavailableException If the changes after the position were dropped.
+     */
+    SseEmitter open(long since) {
+        CountryChangePage first = changeFeed.changesSince(since, pageSize);
+        Stream stream = new Stream(new SseEmitter(streamTimeout.toMillis()));
+        stream.emitter.onCompletion(stream::close);
+        stream.emitter.onTimeout(stream::close);
+        stream.emitter.onError(e -> stream.close());
+        streams.add(stream);
+        executor.execute(() -> stream.run(first));
+        return stream.emitter;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        streams.forEach(stream -> {
+            stream.close();
+            stream.emitter.complete();
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private final class Stream {
+        private final SseEmitter emitter;
+        private volatile boolean open = true;
+
+        private Stream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void run(CountryChangePage page) {
+            try {
+                send(page);
+                while (open && running) {
+                    page = changeFeed.awaitChangesSince(page.next(), pageSize, heartbeat);
+                    if (page.changes().isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    send(page);
+                }
+            } catch (CountryChangesUnavailableException e) {
+                logger.debug("Change stream reset: {}", e.getMessage());
+                try {
+                    emitter.send(SseEmitter.event().name("reset").data(e.getMessage()));
+                    emitter.complete();
+                } catch (IOException | IllegalStateException ignored) {
+                    // The client is gone already.
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Change stream closed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                close();
+            }
+        }
+
+        private void send(CountryChangePage page) throws IOException {
+            for (CountryChange change : page.changes()) {
+                emitter.send(SseEmitter.event()
+                    .id(Long.toString(change.sequence()))
+                    .name("change")
+                    .data(change, MediaType.APPLICATION_JSON));
+            }
+        }
+
+        private void close() {
+            open = false;
+            streams.remove(this);
+        }
+    }
+}
@@ -5,30 +5,84 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Added streaming of all countries as a JSON array or NDJSON.
+ Oct.17/2026  COQ  Added keyset paginated listing.
+ Oct.17/2026  COQ  Added batch create/update.
+ Oct.17/2026  COQ  Added ETags, conditional GET and If-Match on PUT and DELETE.
+ Oct.17/2026  COQ  Update and delete run as one statement; added upsert by code.
+ Oct.17/2026  COQ  Shed requests with 503 and Retry-After when the database bulkhead is full.
+ Oct.17/2026  COQ  Request logging at debug level; metrics replace it.
+ Oct.17/2026  COQ  Added streaming import of CSV and NDJSON feeds.
+ Oct.17/2026  COQ  Bodies of single countries and the collection served from a cache of encoded bytes.
+ Oct.17/2026  COQ  Added lookup by code and population range.
+ Oct.17/2026  COQ  Added multi-get by ids.
+ Oct.17/2026  COQ  Added buffered population updates.
+ Oct.17/2026  COQ  Added CBOR representations for clients preferring them.
+ Oct.17/2026  COQ  Read paths pass the version read before loading a country to its tag.
+ Oct.17/2026  COQ  POST with an identifier that does not exist answers 404.
+ Oct.17/2026  COQ  The code in the path of an upsert is normalized before comparing it with the body's.
+ Oct.17/2026  COQ  Write conflicts that kept recurring answer 409.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country.controller.api.v1;
 
+import com.csoftz.country.common.exception.CountryDataBusyException;
+import com.csoftz.country.common.exception.InvalidCountryFeedException;
+import com.csoftz.country.common.feed.CountryFeedReader;
+import com.csoftz.country.common.feed.CountryFeedReaderFactory;
+import com.csoftz.country.common.json.CountryStreamWriter;
+import com.csoftz.country.config.CountryBatchProperties;
 import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryCursor;
+import com.csoftz.country.domain.CountryImportResult;
+import com.csoftz.country.domain.CountryLookupResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryPopulation;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountrySort;
+import com.csoftz.country.service.CountryImportService;
+import com.csoftz.country.service.CountryResponseCache;
+import com.csoftz.country.service.CountryResponseCache.EncodedBody;
 import com.csoftz.country.service.CountryService;
+import com.csoftz.country.service.CountryVersionTracker;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing Country resources.
  * Provides endpoints to retrieve, create, update, and delete country data.
  * <p>
+ * Single countries and the whole collection carry strong ETags, so clients can poll with
+ * {@code If-None-Match} and update or delete with {@code If-Match}. Their bodies are served
+ * from a {@link CountryResponseCache} of encoded bytes, gzipped for the collection when the
+ * client accepts it. Clients preferring {@code application/cbor} in {@code Accept} get CBOR
+ * instead of JSON from every endpoint.
+ * <p>
  * Uses the {@code /api/v1/countries} base path.
  *
  * @author COQ - Carlos Adolfo Ortiz Q.
@@ -37,11 +91,30 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/countries")
 public class CountryController {
     private static final Logger logger = LoggerFactory.getLogger(CountryController.class);
+    private static final int MAX_PAGE_SIZE = 1000;
 
     private final CountryService countryService;
+    private final CountryStreamWriter countryStreamWriter;
+    private final CountryBatchProperties batchProperties;
+    private final CountryVersionTracker versionTracker;
+    private final CountryImportService countryImportService;
+    private final CountryFeedReaderFactory feedReaderFactory;
+    private final CountryResponseCache responseCache;
 
-    public CountryController(CountryService countryService) {
+    public CountryController(CountryService countryService,
+                             CountryStreamWriter countryStreamWriter,
+                             CountryBatchProperties batchProperties,
+                             CountryVersionTracker versionTracker,
+                             CountryImportService countryImportService,
+                             CountryFeedReaderFactory feedReaderFactory,
+                             CountryResponseCache responseCache) {
         this.countryService = countryService;
+        this.countryStreamWriter = countryStreamWriter;
+        this.batchProperties = batchProperties;
+        this.versionTracker = versionTracker;
+        this.countryImportService = countryImportService;
+        this.feedReaderFactory = feedReaderFactory;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -49,14 +122,198 @@ public class CountryController {
      * <p>
      * GET /api/v1/countries
      *
-     * @return a list of {@link Country} objects representing all countries.
+     * @param ifNoneMatch    Indicates the ETags of the list the client already has, if any.
+     * @param accept         Indicates the media types the client accepts, if any.
+     * @param acceptEncoding Indicates the content codings the client accepts, if any.
+     * @return A {@link ResponseEntity} containing the JSON array, or CBOR array if preferred,
+     * of all {@link Country} objects, or a 304 Not Modified status if the client list is current.
      * @see Country
      */
     @GetMapping
-    public List<Country> retrieveAllCountries() {
-        logger.info("GET /api/v1/countries");
+    public ResponseEntity<byte[]> retrieveAllCountries(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.debug("GET /api/v1/countries");
+
+        boolean cbor = HttpEncodings.prefersCbor(accept);
+        boolean gzip = HttpEncodings.acceptsGzip(acceptEncoding);
+        String knownEtag = versionTracker.knownCollectionEtag();
+        if (knownEtag != null) {
+            String etag = cbor ? CountryResponseCache.cborEtag(knownEtag) : knownEtag;
+            etag = gzip ? CountryResponseCache.gzipEtag(etag) : etag;
+            if (matches(ifNoneMatch, etag, false)) {
+                return notModified(etag);
+            }
+        }
+
+        EncodedBody body = responseCache.collection();
+        if (body == null) {
+            long generation = responseCache.generation();
+            long version = versionTracker.collectionVersion();
+            List<Country> countries = countryService.findAll();
+            body = responseCache.putCollection(generation, versionTracker.collectionEtag(version, countries), countries);
+        }
+        if (cbor) {
+            body = body.cbor();
+        }
+
+        String etag = body.etag(gzip);
+        if (matches(ifNoneMatch, etag, false)) {
+            return notModified(etag);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body.bytes(gzip));
+    }
+
+    /**
+     * Retrieves one page of countries using keyset pagination, optionally filtered by name
+     * or code prefix and by population range.
+     * <p>
+     * GET /api/v1/countries?limit={limit}&amp;after={cursor}&amp;sort={id|population}
+     *
+     * @param limit         Indicates the maximum number of countries in the page (1 to 1000).
+     * @param after         Uses the cursor token returned with the previous page, if any.
+     * @param sort          Indicates the order of the page, {@code id} (default) or {@code population}.
+     * @param namePrefix    Indicates the prefix the name must start with, if any.
+     * @param codePrefix    Indicates the prefix the code must start with, if any.
+     * @param minPopulation Indicates the minimum population (inclusive), if any.
+     * @param maxPopulation Indicates the maximum population (inclusive), if any.
+     * @return A {@link ResponseEntity} containing the {@link CountryPage}, or a 400 Bad Request
+     * status if the limit, sort or cursor are not valid.
+     * @see CountryPage
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CountryPage> retrieveCountryPage(@RequestParam int limit,
+                                                           @RequestParam(required = false) String after,
+                                                           @RequestParam(defaultValue = "id") String sort,
+                                                           @RequestParam(required = false) String namePrefix,
+                                                           @RequestParam(required = false) String codePrefix,
+                                                           @RequestParam(required = false) Long minPopulation,
+                                                           @RequestParam(required = false) Long maxPopulation) {
+        logger.debug("GET /api/v1/countries?limit={}&after={}&sort={}", limit, after, sort);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CountryQuery query;
+        try {
+            CountrySort countrySort = CountrySort.of(sort);
+            CountryCursor cursor = after == null ? null : CountryCursor.decode(after);
+            if (cursor != null && cursor.sort() != countrySort) {
+                return ResponseEntity.badRequest().build();
+            }
+            query = new CountryQuery(namePrefix, codePrefix, minPopulation, maxPopulation, countrySort, limit, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(countryService.findPage(query));
+    }
+
+    /**
+     * Retrieves many countries by their unique identifiers in one request.
+     * <p>
+     * GET /api/v1/countries?ids=1,2,3
+     *
+     * @param ids Indicates the unique identifiers of the countries, separated by commas.
+     * @return A {@link ResponseEntity} containing the {@link CountryLookupResult} with the countries
+     * in request order and the identifiers not found, or a 400 Bad Request status if there are
+     * no identifiers or too many.
+     * @see CountryLookupResult
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<CountryLookupResult> retrieveCountriesById(@RequestParam List<Long> ids) {
+        logger.debug("GET /api/v1/countries?ids= with {} ids", ids.size());
+
+        return lookup(ids);
+    }
+
+    /**
+     * Retrieves many countries by their unique identifiers, for sets too large for a query string.
+     * <p>
+     * POST /api/v1/countries/lookup
+     *
+     * @param ids Uses the JSON array of the unique identifiers of the countries.
+     * @return A {@link ResponseEntity} containing the {@link CountryLookupResult} with the countries
+     * in request order and the identifiers not found, or a 400 Bad Request status if there are
+     * no identifiers or too many.
+     * @see CountryLookupResult
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<CountryLookupResult> lookupCountries(@RequestBody List<Long> ids) {
+        logger.debug("POST /api/v1/countries/lookup with {} ids", ids.size());
+
+        return lookup(ids);
+    }
+
+    /**
+     * Retrieves the countries whose population lies in a range, ordered by population and
+     * then by identifier. Either bound may be left out.
+     * <p>
+     * GET /api/v1/countries?minPopulation={min}&amp;maxPopulation={max}
+     *
+     * @param minPopulation Indicates the minimum population (inclusive), if any.
+     * @param maxPopulation Indicates the maximum population (inclusive), if any.
+     * @return A {@link ResponseEntity} containing the list of matching {@link Country} objects.
+     * @see Country
+     */
+    @GetMapping(params = {"minPopulation", "!limit"})
+    public ResponseEntity<List<Country>> retrieveCountriesByPopulation(@RequestParam Long minPopulation,
+                                                                      @RequestParam(required = false) Long maxPopulation) {
+        logger.debug("GET /api/v1/countries?minPopulation={}&maxPopulation={}", minPopulation, maxPopulation);
+
+        return ResponseEntity.ok(countryService.findByPopulationBetween(minPopulation, maxPopulation));
+    }
 
-        return countryService.findAll();
+    /**
+     * Retrieves the countries whose population is at most the given one, ordered by
+     * population and then by identifier.
+     * <p>
+     * GET /api/v1/countries?maxPopulation={max}
+     *
+     * @param maxPopulation Indicates the maximum population (inclusive).
+     * @return A {@link ResponseEntity} containing the list of matching {@link Country} objects.
+     * @see #retrieveCountriesByPopulation(Long, Long)
+     */
+    @GetMapping(params = {"maxPopulation", "!minPopulation", "!limit"})
+    public ResponseEntity<List<Country>> retrieveCountriesUpToPopulation(@RequestParam Long maxPopulation) {
+        return retrieveCountriesByPopulation(null, maxPopulation);
+    }
+
+    /**
+     * Streams all available countries to the client while they are read from the database,
+     * so the complete list is never held in memory.
+     * <p>
+     * GET /api/v1/countries?stream=json writes a JSON array, and
+     * GET /api/v1/countries?stream=ndjson writes one JSON object per line.
+     *
+     * @param stream Indicates the streamed representation, either {@code json} or {@code ndjson}.
+     * @return A {@link ResponseEntity} with the streaming body, or a 400 Bad Request status
+     * if the representation is unknown.
+     * @see Country
+     * @see CountryStreamWriter
+     */
+    @GetMapping(params = "stream")
+    public ResponseEntity<StreamingResponseBody> streamAllCountries(@RequestParam String stream) {
+        logger.debug("GET /api/v1/countries?stream={}", stream);
+
+        return switch (stream) {
+            case "json" -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> countryStreamWriter.writeJsonArray(out, countryService::streamAll));
+            case "ndjson" -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> countryStreamWriter.writeNdjson(out, countryService::streamAll));
+            default -> ResponseEntity.badRequest().build();
+        };
     }
 
     /**
@@ -64,20 +321,86 @@ public class CountryController {
      * <p>
      * GET /api/v1/countries/{id}.
      *
-     * @param id Indicates the unique identifier of the country to be retrieved
-     * @return A {@link ResponseEntity} containing the {@link Country} object if found,
+     * @param id          Indicates the unique identifier of the country to be retrieved
+     * @param ifNoneMatch Indicates the ETags of the country the client already has, if any.
+     * @param accept      Indicates the media types the client accepts, if any.
+     * @return A {@link ResponseEntity} containing the {@link Country} object as JSON, or CBOR
+     * if preferred, if found,
+     * a 304 Not Modified status if the client copy is current,
      * or a {@link ResponseEntity} with a 404 Not Found status if the country does not exist.
      * @see Country
      * @see ResponseEntity
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Country> retrieveCountryById(@PathVariable Long id) {
-        logger.info("GET /api/v1/countries/{}", id);
+    public ResponseEntity<byte[]> retrieveCountryById(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        logger.debug("GET /api/v1/countries/{}", id);
 
-        Optional<Country> country = countryService.findById(id);
-        return country
-            .map(ResponseEntity::ok)
-            .orElseGet(() -> ResponseEntity.notFound().build());
+        boolean cbor = HttpEncodings.prefersCbor(accept);
+        String knownEtag = versionTracker.knownEtag(id);
+        if (knownEtag != null) {
+            String etag = cbor ? CountryResponseCache.cborEtag(knownEtag) : knownEtag;
+            if (matches(ifNoneMatch, etag, false)) {
+                return notModified(etag);
+            }
+        }
+
+        EncodedBody body = responseCache.country(id);
+        if (body == null) {
+            long generation = responseCache.generation();
+            long version = versionTracker.collectionVersion();
+            Optional<Country> country = countryService.findById(id);
+            if (country.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            body = responseCache.putCountry(generation, versionTracker.etag(version, country.get()), country.get());
+        }
+        if (cbor) {
+            body = body.cbor();
+        }
+
+        String etag = body.etag(false);
+        if (matches(ifNoneMatch, etag, false)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .contentType(cbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON)
+            .body(body.bytes(false));
+    }
+
+    /**
+     * Retrieves a country by its natural identifier, matched regardless of case.
+     * <p>
+     * GET /api/v1/countries/code/{code}
+     *
+     * @param code        Indicates the code of the country to be retrieved.
+     * @param ifNoneMatch Indicates the ETags of the country the client already has, if any.
+     * @return A {@link ResponseEntity} containing the {@link Country} object if found,
+     * a 304 Not Modified status if the client copy is current,
+     * or a {@link ResponseEntity} with a 404 Not Found status if no country has that code.
+     * @see Country
+     */
+    @GetMapping("/code/{code}")
+    public ResponseEntity<Country> retrieveCountryByCode(
+        @PathVariable String code,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.debug("GET /api/v1/countries/code/{}", code);
+
+        long version = versionTracker.collectionVersion();
+        Optional<Country> country = countryService.findByCode(code);
+        if (country.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = versionTracker.etag(version, country.get());
+        if (matches(ifNoneMatch, etag, false)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(country.get());
     }
 
     /**
@@ -87,64 +410,261 @@ public class CountryController {
      *
      * @param country The {@link Country} object containing the details to be persisted.
      *                It must be a valid object with all required fields populated.
-     * @return The saved {@link Country} instance including its generated identifier
-     * and persisted details.
+     * @return A {@link ResponseEntity} containing the saved {@link Country} instance including its
+     * generated identifier and persisted details,
+     * or a {@link ResponseEntity} with a 404 Not Found status if it carries an identifier no country has.
      * @see Country
      */
     @PostMapping
-    public Country createCountry(@Valid @RequestBody Country country) {
-        logger.info("POST /api/v1/countries with data: {}", country);
+    public ResponseEntity<Country> createCountry(@Valid @RequestBody Country country) {
+        logger.debug("POST /api/v1/countries with data: {}", country);
 
-        return countryService.save(country);
+        return countryService.save(country)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Creates or updates many country resources in one request. Countries without an
+     * identifier are created, the others are updated.
+     * <p>
+     * POST /api/v1/countries/batch
+     *
+     * @param countries The {@link Country} objects to be persisted. Each one is validated on its own,
+     *                  and the ones that are not valid or cannot be written are reported as failed.
+     * @return A {@link ResponseEntity} containing the {@link CountryBatchResult} with the identifier
+     * or error of every country, or a 400 Bad Request status if the batch is empty or too large.
+     * @see CountryBatchResult
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CountryBatchResult> createCountries(@RequestBody List<Country> countries) {
+        logger.debug("POST /api/v1/countries/batch with {} countries", countries.size());
+
+        if (countries.isEmpty() || countries.size() > batchProperties.maxSize()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(countryService.saveAll(countries));
+    }
+
+    /**
+     * Imports a country feed of any size, creating or updating every valid record by its
+     * code. The body is parsed as it arrives and written in chunks, never held in memory.
+     * <p>
+     * POST /api/v1/countries/import
+     *
+     * @param contentType Indicates the feed format: text/csv with a name, code and population header,
+     *                    or application/x-ndjson with one country object per line.
+     * @param body        Uses the request body holding the feed.
+     * @return A {@link ResponseEntity} containing the {@link CountryImportResult} with the inserted,
+     * updated and rejected counts, or a 400 Bad Request status if the feed cannot be read.
+     * @throws IOException If reading the request body fails.
+     * @see CountryImportResult
+     */
+    @PostMapping(value = "/import", consumes = {CountryFeedReaderFactory.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<CountryImportResult> importCountries(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                               InputStream body) throws IOException {
+        logger.debug("POST /api/v1/countries/import as {}", contentType);
+
+        try (CountryFeedReader reader = feedReaderFactory.open(contentType, body)) {
+            return ResponseEntity.ok(countryImportService.importCountries(reader));
+        }
     }
 
     /**
      * Updates the information of an existing country identified by its unique ID.
      * This method handles HTTP PUT requests to update the country details. If the country
      * with the specified ID exists, it updates the record and returns the updated entity.
-     * Otherwise, it returns a 404 Not Found response.
+     * Otherwise, it returns a 404 Not Found response. Without {@code If-Match} the existence
+     * check and the update are a single statement.
      * <p>
      * PUT /api/v1/countries/{}
      *
      * @param id      Indicates which is the unique identifier of the {@link Country} to be updated.
      * @param country Uses the {@link Country} object containing the updated details to be applied.
      *                It must be a valid object with all required fields populated.
+     * @param ifMatch Indicates the ETags the stored country must match for the update to happen, if any.
      * @return A {@link ResponseEntity} containing the updated {@link Country} object if the country exists,
+     * a 412 Precondition Failed status if it no longer matches {@code If-Match},
      * or a {@link ResponseEntity} with a 404 Not Found status if the country does not exist.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Country> updateCountry(@PathVariable Long id, @Valid @RequestBody Country country) {
-        logger.info("PUT /api/v1/countries/{} with data: {}", id, country);
+    public ResponseEntity<Country> updateCountry(@PathVariable Long id,
+                                                 @Valid @RequestBody Country country,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("PUT /api/v1/countries/{} with data: {}", id, country);
+
+        if (ifMatch == null) {
+            return countryService.update(id, country)
+                .map(updated -> ResponseEntity.ok().eTag(versionTracker.etag(updated)).body(updated))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+        }
 
         Optional<Country> optionalCountry = countryService.findById(id);
 
-        if (optionalCountry.isPresent()) {
-            return ResponseEntity.ok(countryService.update(id, country));
+        if (optionalCountry.isEmpty()) {
+            return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.notFound().build();
+        Country current = optionalCountry.get();
+        Country replacement = new Country(id, country.name(), country.code(), country.population());
+        if (!matches(ifMatch, versionTracker.etag(current), true)
+            || !countryService.updateIfUnchanged(current, replacement)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        return ResponseEntity.ok().eTag(versionTracker.etag(replacement)).body(replacement);
+    }
+
+    /**
+     * Sets the population of an existing country without sending the whole country.
+     * Updates are buffered and written to the database in batches shortly after, keeping
+     * only the latest population of each country, but every read sees them at once.
+     * <p>
+     * PATCH /api/v1/countries/{id}/population
+     *
+     * @param id         Indicates the unique identifier of the {@link Country} to be updated.
+     * @param population Uses the {@link CountryPopulation} with the new population.
+     * @return A {@link ResponseEntity} containing the updated {@link Country} object if the country exists,
+     * or a {@link ResponseEntity} with a 404 Not Found status if it does not.
+     */
+    @PatchMapping("/{id}/population")
+    public ResponseEntity<Country> updatePopulation(@PathVariable Long id, @Valid @RequestBody CountryPopulation population) {
+        logger.debug("PATCH /api/v1/countries/{}/population with data: {}", id, population);
+
+        return countryService.updatePopulation(id, population.population())
+            .map(updated -> ResponseEntity.ok().eTag(versionTracker.etag(updated)).body(updated))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Creates or updates the country with the given code, so repeating the same request
+     * leaves the same state behind.
+     * <p>
+     * PUT /api/v1/countries/code/{code}
+     *
+     * @param code    Indicates the natural identifier of the {@link Country} to store.
+     * @param country Uses the {@link Country} object containing the details to store. Its code must
+     *                be the one in the path, once both are normalized, and its identifier is ignored.
+     * @return A {@link ResponseEntity} containing the stored {@link Country} object,
+     * or a 400 Bad Request status if the code in the body differs from the one in the path.
+     */
+    @PutMapping("/code/{code}")
+    public ResponseEntity<Country> upsertCountryByCode(@PathVariable String code, @Valid @RequestBody Country country) {
+        logger.debug("PUT /api/v1/countries/code/{} with data: {}", code, country);
+
+        if (!Country.normalizeCode(code).equals(country.code())) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Country stored = countryService.upsertByCode(country);
+        return ResponseEntity.ok().eTag(versionTracker.etag(stored)).body(stored);
     }
 
     /**
      * Deletes a country resource identified by its unique ID.
      * <p>
      * If a country with the specified ID exists, it will be removed from the system.
-     * Otherwise, a 404 Not Found status will be returned.
+     * Otherwise, a 404 Not Found status will be returned. Without {@code If-Match} the
+     * existence check and the deletion are a single statement.
      *
-     * @param id Indicates which is the unique identifier of the {@link Country} to be deleted.
+     * @param id      Indicates which is the unique identifier of the {@link Country} to be deleted.
+     * @param ifMatch Indicates the ETags the stored country must match for the deletion to happen, if any.
      * @return A {@link ResponseEntity} with an HTTP 200 OK status if the deletion is successful,
+     * an HTTP 412 Precondition Failed status if the country no longer matches {@code If-Match},
      * or an HTTP 404 Not Found status if the specified country does not exist.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCountry(@PathVariable Long id) {
-        logger.info("DELETE /api/v1/countries/{}", id);
+    public ResponseEntity<Void> deleteCountry(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("DELETE /api/v1/countries/{}", id);
+
+        if (ifMatch == null) {
+            if (countryService.deleteById(id)) {
+                return ResponseEntity.ok().build();
+            }
+
+            return ResponseEntity.notFound().build();
+        }
 
-        if (countryService.findById(id).isPresent()) {
-            countryService.deleteById(id);
+        Optional<Country> optionalCountry = countryService.findById(id);
+
+        if (optionalCountry.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
-            return ResponseEntity.ok().build();
+        Country current = optionalCountry.get();
+        if (!matches(ifMatch, versionTracker.etag(current), true) || !countryService.deleteIfUnchanged(current)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Sheds a request whose database call found every slot busy, telling the client
+     * when to try again instead of keeping it waiting for a connection.
+     *
+     * @param e Uses the exception raised by the bulkhead.
+     * @return A {@link ResponseEntity} with a 503 Service Unavailable status and a {@code Retry-After} header.
+     */
+    @ExceptionHandler(CountryDataBusyException.class)
+    public ResponseEntity<Void> handleCountryDataBusy(CountryDataBusyException e) {
+        logger.debug("Request shed: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+            .build();
+    }
+
+    /**
+     * Reports a write that kept conflicting with concurrent writers of the same country,
+     * so the client can send it again.
+     *
+     * @param e Uses the exception raised by the data access.
+     * @return A {@link ResponseEntity} with a 409 Conflict status and the problem detail.
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrencyFailure(ConcurrencyFailureException e) {
+        logger.debug("Write conflict: {}", e.getMessage());
+
+        return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage())).build();
+    }
+
+    /**
+     * Rejects an imported feed that cannot be read at all.
+     *
+     * @param e Uses the exception describing what is wrong with the feed.
+     * @return A {@link ResponseEntity} with a 400 Bad Request status and the problem detail.
+     */
+    @ExceptionHandler(InvalidCountryFeedException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidCountryFeed(InvalidCountryFeedException e) {
+        logger.debug("Feed rejected: {}", e.getMessage());
+
+        return ResponseEntity.of(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage())).build();
+    }
+
+    private ResponseEntity<CountryLookupResult> lookup(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > batchProperties.maxSize() || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(countryService.findAllById(ids));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    /**
+     * Tells whether any of the tags in an {@code If-None-Match} (weak comparison) or
+     * {@code If-Match} (strong comparison) header matches the current tag.
+     */
+    private static boolean matches(String header, String etag, boolean strong) {
+        if (header == null) {
+            return false;
         }
 
-        return ResponseEntity.notFound().build();
+        ETag current = ETag.create(etag);
+        return ETag.parse(header).stream()
+            .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, strong));
     }
 }
@@ -0,0 +1,132 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYEXPORTCONTROLLER.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Accept-Encoding parsing shared with the country controller.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import com.csoftz.country.domain.CountryExportFile;
+import com.csoftz.country.domain.CountryExportFormat;
+import com.csoftz.country.service.CountryExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller serving the pre-rendered export snapshots of the country table.
+ * <p>
+ * Files are handed to Tomcat's sendfile support when the connector offers it, so the
+ * kernel copies them straight to the socket; otherwise they are sent with
+ * {@link FileChannel#transferTo}. Either way the countries are neither read nor
+ * serialized again per request.
+ * <p>
+ * Uses the {@code /api/v1/countries/export} base path.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryExportService
+ */
+@RestController
+@RequestMapping("/api/v1/countries/export")
+public class CountryExportController {
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Below this size a plain copy costs less than setting up sendfile, as in Tomcat's DefaultServlet.
+    private static final long SENDFILE_MIN_LENGTH = 48 * 1024;
+    private static final Logger logger = LoggerFactory.getLogger(CountryExportController.class);
+
+    private final CountryExportService countryExportService;
+
+    public CountryExportController(CountryExportService countryExportService) {
+        this.countryExportService = countryExportService;
+    }
+
+    /**
+     * Retrieves the current export snapshot of all countries, gzip encoded when the client
+     * accepts it.
+     * <p>
+     * GET /api/v1/countries/export?format=json|ndjson
+     *
+     * @param format         Indicates the representation, {@code json} (default) or {@code ndjson}.
+     * @param acceptEncoding Indicates the encodings the client accepts, if any.
+     * @param ifNoneMatch    Indicates the ETags of the snapshot the client already has, if any.
+     * @param request        Uses the request, to hand the file to sendfile when supported.
+     * @return A {@link ResponseEntity} with the snapshot file, a 304 Not Modified status if the
+     * client copy is current, or a 400 Bad Request status if the format is unknown.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportCountries(
+        @RequestParam(defaultValue = "json") String format,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        HttpServletRequest request) throws IOException {
+        logger.debug("GET /api/v1/countries/export?format={}", format);
+
+        CountryExportFormat exportFormat;
+        try {
+            exportFormat = CountryExportFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CountryExportFile file = countryExportService.current(exportFormat, HttpEncodings.acceptsGzip(acceptEncoding));
+        if (ifNoneMatch != null && ETag.parse(ifNoneMatch).stream()
+            .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(ETag.create(file.etag()), false))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(file.etag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .eTag(file.etag())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .header(HttpHeaders.CONTENT_TYPE, file.format().contentType())
+            .contentLength(file.length());
+        if (file.gzipped()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        if (canSendfile(request, file)) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.length());
+            return builder.build();
+        }
+
+        // Opened now, so the download keeps its snapshot even if a newer one replaces the file.
+        FileChannel channel = FileChannel.open(file.path());
+        return builder.body(out -> {
+            try (channel) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < file.length()) {
+                    position += channel.transferTo(position, file.length() - position, target);
+                }
+            }
+        });
+    }
+
+    private static boolean canSendfile(HttpServletRequest request, CountryExportFile file) {
+        return file.length() >= SENDFILE_MIN_LENGTH && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT));
+    }
+}
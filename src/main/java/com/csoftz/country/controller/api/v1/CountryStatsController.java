@@ -0,0 +1,67 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTATSCONTROLLER.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import com.csoftz.country.domain.CountryStats;
+import com.csoftz.country.service.CountryStatsTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving aggregate statistics of all countries, kept up to date as they
+ * change instead of computed from the table on each request.
+ * <p>
+ * Uses the {@code /api/v1/countries/stats} base path.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryStatsTracker
+ */
+@RestController
+@RequestMapping("/api/v1/countries/stats")
+public class CountryStatsController {
+    private static final Logger logger = LoggerFactory.getLogger(CountryStatsController.class);
+
+    private final CountryStatsTracker statsTracker;
+
+    public CountryStatsController(CountryStatsTracker statsTracker) {
+        this.statsTracker = statsTracker;
+    }
+
+    /**
+     * Retrieves the count, total, bounds, most populated countries and approximate
+     * population percentiles of all countries.
+     * <p>
+     * GET /api/v1/countries/stats
+     *
+     * @return A {@link ResponseEntity} containing the {@link CountryStats}, a 503 Service
+     * Unavailable status with {@code Retry-After} while they are loaded at startup,
+     * or a 404 Not Found status if they are disabled.
+     * @see CountryStats
+     */
+    @GetMapping
+    public ResponseEntity<CountryStats> retrieveStats() {
+        logger.debug("GET /api/v1/countries/stats");
+
+        if (!statsTracker.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return statsTracker.stats()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build());
+    }
+}
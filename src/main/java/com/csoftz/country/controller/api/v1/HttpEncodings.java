@@ -0,0 +1,77 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   HTTPENCODINGS.JAVA                                          */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Negotiate CBOR from the Accept header.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import java.util.List;
+import java.util.Locale;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Helpers for the content codings and representations negotiated with clients.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class HttpEncodings {
+
+    private HttpEncodings() {
+    }
+
+    /**
+     * Tells whether an {@code Accept-Encoding} header accepts gzip, that is, names it
+     * without a zero quality value.
+     *
+     * @param acceptEncoding Indicates the header value, or null if the request has none.
+     * @return true if a gzip encoded body can be sent.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().toLowerCase(Locale.ROOT).equals("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether an {@code Accept} header asks for CBOR, that is, names it with a
+     * quality value above zero and not below the one given to JSON, if any.
+     *
+     * @param accept Indicates the header value, or null if the request has none.
+     * @return true if a CBOR body should be sent instead of JSON.
+     */
+    static boolean prefersCbor(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        double cbor = quality(mediaTypes, MediaType.APPLICATION_CBOR);
+        return cbor > 0 && cbor >= quality(mediaTypes, MediaType.APPLICATION_JSON);
+    }
+
+    private static double quality(List<MediaType> mediaTypes, MediaType mediaType) {
+        double quality = 0;
+        for (MediaType accepted : mediaTypes) {
+            if (accepted.equalsTypeAndSubtype(mediaType)) {
+                quality = Math.max(quality, accepted.getQualityValue());
+            }
+        }
+        return quality;
+    }
+}
@@ -0,0 +1,180 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   BULKHEADCOUNTRYDATA.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Count the rejected calls.
+ Oct.17/2026  COQ  Added upsertAllByCode.
+ Oct.17/2026  COQ  Added findByCode and findByPopulationBetween.
+ Oct.17/2026  COQ  Added findAllById.
+ Oct.17/2026  COQ  Added updatePopulations.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import com.csoftz.country.common.exception.CountryDataBusyException;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountryUpsertResult;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead decorating another {@link CountryData}, capping how many calls reach the
+ * database at once.
+ * <p>
+ * The cap is meant to match the connection pool size. A call that cannot get a slot
+ * within the maximum wait is rejected with {@link CountryDataBusyException} instead of
+ * queuing for a connection, so excess load is shed quickly while admitted calls keep
+ * their usual latency.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryDataBusyException
+ */
+public class BulkheadCountryData implements CountryData {
+    private final CountryData delegate;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public BulkheadCountryData(CountryData delegate, int maxConcurrentCalls, Duration maxWait, Duration retryAfter) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public List<Country> findAll() {
+        return call(delegate::findAll);
+    }
+
+    @Override
+    public Optional<Country> findById(Long id) {
+        return call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Country> findAllById(Collection<Long> ids) {
+        return call(() -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public Optional<Country> findByCode(String code) {
+        return call(() -> delegate.findByCode(code));
+    }
+
+    @Override
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        return call(() -> delegate.findByPopulationBetween(minPopulation, maxPopulation));
+    }
+
+    @Override
+    public CountryPage findPage(CountryQuery query) {
+        return call(() -> delegate.findPage(query));
+    }
+
+    @Override
+    public void streamAll(Consumer<Country> action) {
+        call(() -> {
+            delegate.streamAll(action);
+            return null;
+        });
+    }
+
+    @Override
+    public Country save(Country country) {
+        return call(() -> delegate.save(country));
+    }
+
+    @Override
+    public int update(Country country) {
+        return call(() -> delegate.update(country));
+    }
+
+    @Override
+    public int updatePopulations(Map<Long, Long> populations) {
+        return call(() -> delegate.updatePopulations(populations));
+    }
+
+    @Override
+    public List<Country> upsertByCode(Country country) {
+        return call(() -> delegate.upsertByCode(country));
+    }
+
+    @Override
+    public CountryBatchResult saveAll(List<Country> countries) {
+        return call(() -> delegate.saveAll(countries));
+    }
+
+    @Override
+    public CountryUpsertResult upsertAllByCode(List<Country> countries) {
+        return call(() -> delegate.upsertAllByCode(countries));
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return call(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public boolean updateIfUnchanged(Country expected, Country country) {
+        return call(() -> delegate.updateIfUnchanged(expected, country));
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(Country expected) {
+        return call(() -> delegate.deleteIfUnchanged(expected));
+    }
+
+    /**
+     * Retrieves how many more calls could run right now.
+     *
+     * @return The number of free slots.
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Retrieves how many calls were rejected since the bulkhead was created.
+     *
+     * @return The number of calls that could not get a slot.
+     */
+    public long rejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    private <T> T call(Supplier<T> operation) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCalls.increment();
+            throw new CountryDataBusyException("Interrupted waiting for a database slot", retryAfter);
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new CountryDataBusyException("All database slots are busy", retryAfter);
+        }
+
+        try {
+            return operation.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
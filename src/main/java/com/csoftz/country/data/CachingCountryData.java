@@ -0,0 +1,410 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CACHINGCOUNTRYDATA.JAVA                                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added streamAll, served from the snapshot when it is fresh.
+ Oct.17/2026  COQ  Added findPage passed through to the delegate.
+ Oct.17/2026  COQ  Added saveAll applied to the cached state.
+ Oct.17/2026  COQ  Added updateIfUnchanged and deleteIfUnchanged.
+ Oct.17/2026  COQ  Update and delete report the rows changed; added upsertByCode.
+ Oct.17/2026  COQ  Bulk upserts by code invalidate the cache.
+ Oct.17/2026  COQ  Added findByCode and findByPopulationBetween.
+ Oct.17/2026  COQ  Added findAllById answered from the snapshot or the cached rows.
+ Oct.17/2026  COQ  Added updatePopulations applied to the cached rows.
+ Oct.17/2026  COQ  Writes inside a transaction reach the cache only after it commits.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchItem;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountryUpsertResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache decorating another {@link CountryData}.
+ * <p>
+ * {@link #findAll()} keeps an immutable snapshot of every row together with an
+ * id-keyed map, so {@link #findById(Long)} is answered from memory as well while the
+ * snapshot is fresh. When no snapshot is available, single rows (including the ones
+ * that do not exist) are cached individually. Both expire after the configured TTL,
+ * and the number of countries held in memory is bounded by the maximum size.
+ * <p>
+ * Writes go to the delegate first and are then applied to the cached state, so this
+ * instance never serves data older than its own writes. Inside a transaction they are
+ * only applied once it commits, so a rollback never leaves uncommitted rows cached. A
+ * generation counter stops loads that raced with a write from installing stale results.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryData
+ * @see CountryCacheStats
+ */
+public class CachingCountryData implements CountryData {
+    private final CountryData delegate;
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+    private volatile long generation;
+
+    public CachingCountryData(CountryData delegate, Duration ttl, int maximumSize) {
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public List<Country> findAll() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            hits.increment();
+            return current.countries();
+        }
+
+        misses.increment();
+        long expected = generation;
+        List<Country> countries = delegate.findAll();
+        if (countries.size() > maximumSize) {
+            return countries;
+        }
+
+        Snapshot loaded = Snapshot.of(countries, System.nanoTime());
+        synchronized (lock) {
+            if (generation == expected) {
+                snapshot = loaded;
+                entries.clear();
+            }
+        }
+        return loaded.countries();
+    }
+
+    @Override
+    public Optional<Country> findById(Long id) {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            hits.increment();
+            return Optional.ofNullable(current.byId().get(id));
+        }
+
+        Entry entry = entries.get(id);
+        if (entry != null && isFresh(entry.loadedAt())) {
+            hits.increment();
+            return entry.country();
+        }
+
+        misses.increment();
+        long expected = generation;
+        Optional<Country> country = delegate.findById(id);
+        synchronized (lock) {
+            if (generation == expected) {
+                putEntry(id, country);
+            }
+        }
+        return country;
+    }
+
+    @Override
+    public List<Country> findAllById(Collection<Long> ids) {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            hits.increment();
+            return ids.stream().distinct().map(current.byId()::get).filter(Objects::nonNull).toList();
+        }
+
+        List<Country> countries = new ArrayList<>(ids.size());
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Entry entry = entries.get(id);
+            if (entry != null && isFresh(entry.loadedAt())) {
+                hits.increment();
+                entry.country().ifPresent(countries::add);
+            } else {
+                misses.increment();
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return countries;
+        }
+
+        long expected = generation;
+        List<Country> loaded = delegate.findAllById(missing);
+        synchronized (lock) {
+            if (generation == expected) {
+                Set<Long> absent = new LinkedHashSet<>(missing);
+                loaded.forEach(country -> {
+                    absent.remove(country.id());
+                    putEntry(country.id(), Optional.of(country));
+                });
+                absent.forEach(id -> putEntry(id, Optional.empty()));
+            }
+        }
+        countries.addAll(loaded);
+        return countries;
+    }
+
+    @Override
+    public Optional<Country> findByCode(String code) {
+        return delegate.findByCode(code);
+    }
+
+    @Override
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        return delegate.findByPopulationBetween(minPopulation, maxPopulation);
+    }
+
+    @Override
+    public CountryPage findPage(CountryQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public void streamAll(Consumer<Country> action) {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            hits.increment();
+            current.countries().forEach(action);
+            return;
+        }
+
+        misses.increment();
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public Country save(Country country) {
+        Country saved = delegate.save(country);
+
+        applySaved(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public int update(Country country) {
+        int count = delegate.update(country);
+
+        if (count > 0) {
+            applySaved(List.of(country));
+        } else {
+            applyDeleted(country.id());
+        }
+        return count;
+    }
+
+    @Override
+    public int updatePopulations(Map<Long, Long> populations) {
+        int updated = delegate.updatePopulations(populations);
+
+        List<Country> changed = new ArrayList<>(populations.size());
+        Snapshot current = snapshot;
+        populations.forEach((id, population) -> {
+            Country cached = current != null ? current.byId().get(id) : null;
+            if (cached == null) {
+                Entry entry = entries.get(id);
+                cached = entry != null ? entry.country().orElse(null) : null;
+            }
+            if (cached != null) {
+                changed.add(new Country(id, cached.name(), cached.code(), population));
+            }
+        });
+        applySaved(changed);
+        return updated;
+    }
+
+    @Override
+    public List<Country> upsertByCode(Country country) {
+        List<Country> stored = delegate.upsertByCode(country);
+
+        applySaved(stored);
+        return stored;
+    }
+
+    @Override
+    public CountryBatchResult saveAll(List<Country> countries) {
+        CountryBatchResult result = delegate.saveAll(countries);
+
+        List<Country> saved = new ArrayList<>(result.saved());
+        for (CountryBatchItem item : result.items()) {
+            if (item.isSaved()) {
+                Country country = countries.get(item.index());
+                saved.add(new Country(item.id(), country.name(), country.code(), country.population()));
+            }
+        }
+
+        applySaved(saved);
+        return result;
+    }
+
+    @Override
+    public CountryUpsertResult upsertAllByCode(List<Country> countries) {
+        CountryUpsertResult result = delegate.upsertAllByCode(countries);
+
+        // Bulk writes replace too much of the table for patching the snapshot to pay off.
+        invalidateAll();
+        return result;
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        int count = delegate.deleteById(id);
+
+        applyDeleted(id);
+        return count;
+    }
+
+    @Override
+    public boolean updateIfUnchanged(Country expected, Country country) {
+        if (delegate.updateIfUnchanged(expected, country)) {
+            applySaved(List.of(country));
+            return true;
+        }
+
+        // The row was changed behind this cache, so what it holds can no longer be trusted.
+        invalidateAll();
+        return false;
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(Country expected) {
+        if (delegate.deleteIfUnchanged(expected)) {
+            applyDeleted(expected.id());
+            return true;
+        }
+
+        invalidateAll();
+        return false;
+    }
+
+    /**
+     * Drops every cached country, forcing the next reads to go to the delegate.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            generation++;
+            snapshot = null;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Retrieves the current hit/miss counters and the number of countries held in memory.
+     *
+     * @return A {@link CountryCacheStats} with the current values.
+     */
+    public CountryCacheStats stats() {
+        Snapshot current = snapshot;
+        int size = current != null ? current.countries().size() : entries.size();
+        return new CountryCacheStats(hits.sum(), misses.sum(), size);
+    }
+
+    private void applySaved(List<Country> saved) {
+        afterCommit(() -> {
+            synchronized (lock) {
+                generation++;
+                Snapshot current = snapshot;
+                if (current != null) {
+                    snapshot = current.with(saved);
+                }
+                saved.forEach(country -> putEntry(country.id(), Optional.of(country)));
+            }
+        });
+    }
+
+    private void applyDeleted(Long id) {
+        afterCommit(() -> {
+            synchronized (lock) {
+                generation++;
+                Snapshot current = snapshot;
+                if (current != null) {
+                    snapshot = current.without(id);
+                }
+                putEntry(id, Optional.empty());
+            }
+        });
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Other readers only see the write once the transaction commits, and never if it rolls back.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && isFresh(current.loadedAt());
+    }
+
+    private boolean isFresh(long loadedAt) {
+        return System.nanoTime() - loadedAt < ttlNanos;
+    }
+
+    // Callers hold the lock.
+    private void putEntry(Long id, Optional<Country> country) {
+        entries.put(id, new Entry(country, System.nanoTime()));
+        if (entries.size() > maximumSize) {
+            entries.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().loadedAt()))
+                .ifPresent(eldest -> entries.remove(eldest.getKey()));
+        }
+    }
+
+    private record Entry(Optional<Country> country, long loadedAt) {
+    }
+
+    private record Snapshot(List<Country> countries, Map<Long, Country> byId, long loadedAt) {
+        static Snapshot of(List<Country> countries, long loadedAt) {
+            Map<Long, Country> byId = new LinkedHashMap<>();
+            countries.forEach(country -> byId.put(country.id(), country));
+            return new Snapshot(List.copyOf(countries), Map.copyOf(byId), loadedAt);
+        }
+
+        Snapshot with(List<Country> saved) {
+            Map<Long, Country> changes = new LinkedHashMap<>();
+            saved.forEach(country -> changes.put(country.id(), country));
+            List<Country> countries = new ArrayList<>(this.countries.size() + changes.size());
+            for (Country country : this.countries) {
+                Country replacement = changes.remove(country.id());
+                countries.add(replacement != null ? replacement : country);
+            }
+            countries.addAll(changes.values());
+            return of(countries, loadedAt);
+        }
+
+        Snapshot without(Long id) {
+            List<Country> countries = this.countries.stream()
+                .filter(country -> !country.id().equals(id))
+                .toList();
+            return of(countries, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCACHESTATS.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+/**
+ * Point in time counters of the country cache.
+ *
+ * @param hits   Indicates how many reads were answered from memory.
+ * @param misses Indicates how many reads had to go to the data source.
+ * @param size   Indicates how many countries are currently held in memory.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CachingCountryData
+ */
+public record CountryCacheStats(long hits, long misses, int size) {
+}
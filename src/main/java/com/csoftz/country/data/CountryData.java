@@ -5,12 +5,31 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Added streamAll.
+ Oct.17/2026  COQ  Added keyset paginated findPage.
+ Oct.17/2026  COQ  Added saveAll.
+ Oct.17/2026  COQ  Added conditional update and delete.
+ Oct.17/2026  COQ  Update and delete return the affected rows; added upsertByCode.
+ Oct.17/2026  COQ  Added upsertAllByCode.
+ Oct.17/2026  COQ  Added findByCode and findByPopulationBetween.
+ Oct.17/2026  COQ  Added findAllById.
+ Oct.17/2026  COQ  Added updatePopulations.
+ Oct.17/2026  COQ  save rejects an identifier that does not exist.
+ Oct.17/2026  COQ  upsertByCode only reserves an identifier for a new code.
+ Oct.17/2026  COQ  upsertByCode documents giving up on a contended code.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country.data;
 
 import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountryUpsertResult;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface for managing CRUD (Create, Read, Update, and Delete) operations
@@ -36,6 +55,52 @@ public interface CountryData {
      */
     Optional<Country> findById(Long id);
 
+    /**
+     * Finds the countries with any of the given identifiers, reading them in as few
+     * statements as possible.
+     *
+     * @param ids Indicates the unique identifiers of the countries to be retrieved; repeated ones are read once.
+     * @return A list of the {@link Country} objects found, in no particular order. Identifiers
+     * that do not exist are left out.
+     */
+    List<Country> findAllById(Collection<Long> ids);
+
+    /**
+     * Finds a country by its natural identifier, matching the code exactly.
+     *
+     * @param code Indicates the code of the country to be retrieved.
+     * @return An {@link Optional} containing the {@link Country} with the lowest identifier and that code,
+     * or an empty {@link Optional} if none has it.
+     */
+    Optional<Country> findByCode(String code);
+
+    /**
+     * Retrieves the countries whose population lies in a range, ordered by population
+     * and then by identifier. Countries without a population are left out.
+     *
+     * @param minPopulation Indicates the minimum population (inclusive), or null for no lower bound.
+     * @param maxPopulation Indicates the maximum population (inclusive), or null for no upper bound.
+     * @return A list of the matching {@link Country} objects, or an empty list if none match.
+     */
+    List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation);
+
+    /**
+     * Retrieves one page of countries matching the query, seeking past the query cursor
+     * instead of skipping rows, so every page costs the same no matter how deep it is.
+     *
+     * @param query Uses the filters, order, size and cursor of the page.
+     * @return A {@link CountryPage} with the matching countries and the cursor of the next page.
+     */
+    CountryPage findPage(CountryQuery query);
+
+    /**
+     * Passes every country stored in the data source to the given action as it is read,
+     * without collecting them into a list first.
+     *
+     * @param action Uses the callback receiving each {@link Country}.
+     */
+    void streamAll(Consumer<Country> action);
+
     /**
      * Persists a {@link Country} entity into the data source. If the country has a
      * null identifier, a new entry is created, and the identifier is assigned. If the
@@ -43,13 +108,85 @@ public interface CountryData {
      *
      * @param country Uses the {@link Country} entity to be saved or updated
      * @return The saved {@link Country} instance with its identifier and persisted details
+     * @throws org.springframework.dao.IncorrectUpdateSemanticsDataAccessException If the country
+     *                                                                              has an identifier that does not exist.
      */
     Country save(Country country);
 
+    /**
+     * Updates the country with the same identifier in a single statement.
+     *
+     * @param country Uses the {@link Country} with the new values and the identifier of the row to update.
+     * @return The number of rows updated, 0 if the country does not exist.
+     */
+    int update(Country country);
+
+    /**
+     * Sets the population of many countries in one transaction, sending the updates as
+     * JDBC batches.
+     *
+     * @param populations Maps the unique identifier of each country to its new population.
+     * @return The number of countries updated; identifiers that do not exist are skipped.
+     */
+    int updatePopulations(Map<Long, Long> populations);
+
+    /**
+     * Creates or updates the country with the same natural identifier (code), making the
+     * operation idempotent. An identifier is only reserved when the code is new.
+     *
+     * @param country Uses the {@link Country} with the values to store; its identifier is ignored.
+     * @return The countries stored with that code after the operation, ordered by identifier.
+     * @throws org.springframework.dao.ConcurrencyFailureException if concurrent writers keep changing
+     *                                                             the code, or the insert keeps failing.
+     */
+    List<Country> upsertByCode(Country country);
+
+    /**
+     * Persists many {@link Country} entities at once, creating the ones with a null
+     * identifier and updating the others, using as few round trips as possible.
+     * <p>
+     * A country that cannot be written is reported in the result instead of aborting
+     * the rest of the batch.
+     *
+     * @param countries Uses the {@link Country} entities to be saved or updated.
+     * @return A {@link CountryBatchResult} with the assigned identifier or error of every country.
+     */
+    CountryBatchResult saveAll(List<Country> countries);
+
+    /**
+     * Creates or updates many countries by their natural identifier (code) in a single
+     * transaction, using as few round trips as possible. A code repeated in the list is
+     * written once, with its last values.
+     *
+     * @param countries Uses the {@link Country} entities to store; their identifiers are ignored.
+     * @return A {@link CountryUpsertResult} with the countries created and updated.
+     */
+    CountryUpsertResult upsertAllByCode(List<Country> countries);
+
     /**
      * Deletes a country record identified by its unique identifier.
      *
      * @param id Indicates which is the unique identifier of the {@link Country} to be deleted.
+     * @return The number of rows deleted, 0 if the country does not exist.
+     */
+    int deleteById(Long id);
+
+    /**
+     * Updates a country only if its stored values still are the expected ones, checking
+     * and writing in a single statement.
+     *
+     * @param expected Uses the {@link Country} as it was read before the update.
+     * @param country  Uses the {@link Country} with the new values, with the same identifier.
+     * @return true if the country was updated, false if it changed or no longer exists.
+     */
+    boolean updateIfUnchanged(Country expected, Country country);
+
+    /**
+     * Deletes a country only if its stored values still are the expected ones, checking
+     * and deleting in a single statement.
+     *
+     * @param expected Uses the {@link Country} as it was read before the deletion.
+     * @return true if the country was deleted, false if it changed or no longer exists.
      */
-    void deleteById(Long id);
+    boolean deleteIfUnchanged(Country expected);
 }
@@ -0,0 +1,26 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYIDGENERATOR.JAVA                                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+/**
+ * Hands out unique identifiers for new {@link com.csoftz.country.domain.Country} rows,
+ * so they can be inserted in a single statement.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see HiLoCountryIdGenerator
+ */
+@FunctionalInterface
+public interface CountryIdGenerator {
+    /**
+     * Retrieves the next unused identifier.
+     *
+     * @return An identifier never handed out before.
+     */
+    long nextId();
+}
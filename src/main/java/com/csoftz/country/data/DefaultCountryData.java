@@ -5,14 +5,58 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Only a missing row maps to an empty result in findById.
+ Oct.17/2026  COQ  Added streamAll with a configurable fetch size.
+ Oct.17/2026  COQ  Added keyset paginated findPage.
+ Oct.17/2026  COQ  Added saveAll with chunked JDBC batches.
+ Oct.17/2026  COQ  Insert with identifiers from CountryIdGenerator in a single statement.
+ Oct.17/2026  COQ  Added conditional update and delete.
+ Oct.17/2026  COQ  Update and delete return the affected rows; added a MERGE based upsertByCode.
+ Oct.17/2026  COQ  Added upsertAllByCode with one lookup and JDBC batches per chunk.
+ Oct.17/2026  COQ  Added findByCode and findByPopulationBetween.
+ Oct.17/2026  COQ  Added findAllById with one IN list query per chunk.
+ Oct.17/2026  COQ  Added updatePopulations as JDBC batches.
+ Oct.17/2026  COQ  save rejects an identifier that does not exist instead of reporting it saved.
+ Oct.17/2026  COQ  upsertByCode reserves an identifier only for a new code and needs no read-back.
+ Oct.17/2026  COQ  Bulk upserts insert only absent codes and retry a pass that lost a code to a concurrent writer.
+ Oct.17/2026  COQ  The code prefix of a page is normalized like the stored codes.
+ Oct.17/2026  COQ  upsertByCode gives up with a ConcurrencyFailureException after a bounded number of attempts.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country.data;
 
+import com.csoftz.country.config.CountryBatchProperties;
+import com.csoftz.country.config.CountryStreamingProperties;
 import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchItem;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryCursor;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountrySort;
+import com.csoftz.country.domain.CountryUpsertResult;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Implementation of the CountryData interface using JdbcTemplate for data access.
@@ -28,10 +72,40 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public class DefaultCountryData implements CountryData {
+    private static final String INSERT_SQL = "INSERT INTO country (id, name, code, population) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE country SET name = ?, code = ?, population = ? WHERE id = ?";
+    private static final String UPDATE_POPULATION_SQL = "UPDATE country SET population = ? WHERE id = ?";
+    private static final String UPDATE_BY_CODE_SQL = "UPDATE country SET name = ?, population = ? WHERE code = ?";
+    private static final String INSERT_IF_ABSENT_SQL = """
+        MERGE INTO country c
+        USING (SELECT CAST(? AS NUMBER) AS id, CAST(? AS VARCHAR2(255)) AS name, CAST(? AS VARCHAR2(255)) AS code,
+                      CAST(? AS NUMBER) AS population FROM dual) s
+        ON (c.code = s.code)
+        WHEN NOT MATCHED THEN INSERT (id, name, code, population) VALUES (s.id, s.name, s.code, s.population)""";
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+    // DECODE treats two NULLs as equal, unlike the = operator.
+    private static final String UNCHANGED_SQL =
+        " AND DECODE(name, ?, 1, 0) = 1 AND DECODE(code, ?, 1, 0) = 1 AND DECODE(population, ?, 1, 0) = 1";
+
     private final JdbcTemplate jdbcTemplate;
+    private final CountryIdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate savepointTemplate;
+    private final int streamingFetchSize;
+    private final int batchChunkSize;
 
-    public DefaultCountryData(JdbcTemplate jdbcTemplate) {
+    public DefaultCountryData(JdbcTemplate jdbcTemplate,
+                              CountryIdGenerator idGenerator,
+                              PlatformTransactionManager transactionManager,
+                              CountryStreamingProperties streamingProperties,
+                              CountryBatchProperties batchProperties) {
         this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.streamingFetchSize = streamingProperties.fetchSize();
+        this.batchChunkSize = batchProperties.chunkSize();
     }
 
     @Override
@@ -43,26 +117,352 @@ public class DefaultCountryData implements CountryData {
     public Optional<Country> findById(Long id) {
         try {
             return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT * FROM country WHERE id = ?", new CountryRowMapper(), id));
-        } catch (Exception e) {
+        } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
     }
 
+    @Override
+    public List<Country> findAllById(Collection<Long> ids) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<Country> countries = new ArrayList<>(distinct.size());
+        CountryRowMapper rowMapper = new CountryRowMapper();
+        for (int from = 0; from < distinct.size(); from += batchChunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + batchChunkSize, distinct.size()));
+            // Padding to a power of two repeating the last id keeps the number of distinct
+            // statements small, so they stay in the statement and cursor caches.
+            int size = Math.min(Integer.highestOneBit(chunk.size() - 1) << 1, batchChunkSize);
+            Object[] args = new Object[Math.max(size, chunk.size())];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = chunk.get(Math.min(i, chunk.size() - 1));
+            }
+            String placeholders = String.join(", ", Collections.nCopies(args.length, "?"));
+            countries.addAll(jdbcTemplate.query(
+                "SELECT id, name, code, population FROM country WHERE id IN (" + placeholders + ")", rowMapper, args));
+        }
+        return countries;
+    }
+
+    @Override
+    public Optional<Country> findByCode(String code) {
+        List<Country> countries = jdbcTemplate.query(
+            "SELECT id, name, code, population FROM country WHERE code = ? ORDER BY id FETCH FIRST 1 ROWS ONLY",
+            new CountryRowMapper(), code);
+        return countries.stream().findFirst();
+    }
+
+    @Override
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        // Both bounds compare the bare column, so the (population, id) index serves the range and the order.
+        StringBuilder sql = new StringBuilder("SELECT id, name, code, population FROM country WHERE population IS NOT NULL");
+        List<Object> args = new ArrayList<>(2);
+        if (minPopulation != null) {
+            sql.append(" AND population >= ?");
+            args.add(minPopulation);
+        }
+        if (maxPopulation != null) {
+            sql.append(" AND population <= ?");
+            args.add(maxPopulation);
+        }
+        sql.append(" ORDER BY population, id");
+        return jdbcTemplate.query(sql.toString(), new CountryRowMapper(), args.toArray());
+    }
+
+    @Override
+    public CountryPage findPage(CountryQuery query) {
+        StringBuilder sql = new StringBuilder("SELECT id, name, code, population FROM country WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (query.namePrefix() != null) {
+            sql.append(" AND name LIKE ? ESCAPE '\\'");
+            args.add(likePrefix(query.namePrefix()));
+        }
+        if (query.codePrefix() != null) {
+            sql.append(" AND code LIKE ? ESCAPE '\\'");
+            args.add(likePrefix(Country.normalizeCode(query.codePrefix())));
+        }
+        if (query.minPopulation() != null) {
+            sql.append(" AND population >= ?");
+            args.add(query.minPopulation());
+        }
+        if (query.maxPopulation() != null) {
+            sql.append(" AND population <= ?");
+            args.add(query.maxPopulation());
+        }
+
+        CountryCursor after = query.after();
+        if (query.sort() == CountrySort.POPULATION) {
+            sql.append(" AND population IS NOT NULL");
+            if (after != null) {
+                sql.append(" AND (population > ? OR (population = ? AND id > ?))");
+                args.add(after.population());
+                args.add(after.population());
+                args.add(after.id());
+            }
+            sql.append(" ORDER BY population, id");
+        } else {
+            if (after != null) {
+                sql.append(" AND id > ?");
+                args.add(after.id());
+            }
+            sql.append(" ORDER BY id");
+        }
+        // One extra row tells whether there is a next page.
+        sql.append(" FETCH FIRST ? ROWS ONLY");
+        args.add(query.limit() + 1);
+
+        List<Country> countries = jdbcTemplate.query(sql.toString(), new CountryRowMapper(), args.toArray());
+        if (countries.size() <= query.limit()) {
+            return new CountryPage(countries, null);
+        }
+
+        List<Country> items = countries.subList(0, query.limit());
+        String next = CountryCursor.after(query.sort(), items.getLast()).encode();
+        return new CountryPage(List.copyOf(items), next);
+    }
+
+    @Override
+    public void streamAll(Consumer<Country> action) {
+        CountryRowMapper rowMapper = new CountryRowMapper();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT id, name, code, population FROM country");
+            ps.setFetchSize(streamingFetchSize);
+            return ps;
+        }, rs -> {
+            action.accept(rowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
     @Override
     public Country save(Country country) {
         if (country.id() == null) {
-            jdbcTemplate.update("INSERT INTO country (id, name, code, population) VALUES (country_seq.NEXTVAL, ?, ?, ?)", country.name(), country.code(), country.population());
-            Long newId = jdbcTemplate.queryForObject("SELECT country_seq.CURRVAL FROM dual", Long.class);
+            long newId = idGenerator.nextId();
+            jdbcTemplate.update(INSERT_SQL, newId, country.name(), country.code(), country.population());
             return new Country(newId, country.name(), country.code(), country.population());
-        } else {
-            String sql = "UPDATE country SET name = ?, code = ?, population = ? WHERE id = ?";
-            jdbcTemplate.update(sql, country.name(), country.code(), country.population(), country.id());
-            return country;
         }
+
+        int count = update(country);
+        if (count != 1) {
+            throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(UPDATE_SQL, 1, count);
+        }
+        return country;
+    }
+
+    @Override
+    public int update(Country country) {
+        return jdbcTemplate.update(UPDATE_SQL, country.name(), country.code(), country.population(), country.id());
+    }
+
+    @Override
+    public int updatePopulations(Map<Long, Long> populations) {
+        List<Map.Entry<Long, Long>> rows = List.copyOf(populations.entrySet());
+        int[][] counts = transactionTemplate.execute(status ->
+            jdbcTemplate.batchUpdate(UPDATE_POPULATION_SQL, rows, batchChunkSize, (ps, row) -> {
+                ps.setLong(1, row.getValue());
+                ps.setLong(2, row.getKey());
+            }));
+        return Arrays.stream(counts)
+            .flatMapToInt(Arrays::stream)
+            .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+            .sum();
     }
 
     @Override
-    public void deleteById(Long id) {
-        jdbcTemplate.update("DELETE FROM country WHERE id = ?", id);
+    public List<Country> upsertByCode(Country country) {
+        // Reading the ids first means one write statement that needs no read-back, and an
+        // identifier is only reserved for a new code. A concurrent writer adding or removing
+        // the code in between makes the write miss, and the loop looks again, a bounded number of times.
+        DuplicateKeyException conflict = null;
+        for (int attempt = 1; attempt <= MAX_UPSERT_ATTEMPTS; attempt++) {
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM country WHERE code = ? ORDER BY id",
+                Long.class, country.code());
+            if (ids.isEmpty()) {
+                long id = idGenerator.nextId();
+                try {
+                    if (jdbcTemplate.update(INSERT_IF_ABSENT_SQL, id, country.name(), country.code(), country.population()) == 1) {
+                        return List.of(new Country(id, country.name(), country.code(), country.population()));
+                    }
+                } catch (DuplicateKeyException e) {
+                    // Another writer inserted the code first; it is updated on the next pass.
+                    conflict = e;
+                }
+            } else if (jdbcTemplate.update(UPDATE_BY_CODE_SQL, country.name(), country.population(), country.code()) == ids.size()) {
+                return ids.stream()
+                    .map(id -> new Country(id, country.name(), country.code(), country.population()))
+                    .toList();
+            }
+        }
+        throw new ConcurrencyFailureException("Country code " + country.code() + " kept changing concurrently after "
+            + MAX_UPSERT_ATTEMPTS + " attempts", conflict);
+    }
+
+    @Override
+    public CountryBatchResult saveAll(List<Country> countries) {
+        CountryBatchItem[] items = new CountryBatchItem[countries.size()];
+        List<Integer> inserts = new ArrayList<>();
+        List<Integer> updates = new ArrayList<>();
+        for (int i = 0; i < countries.size(); i++) {
+            (countries.get(i).id() == null ? inserts : updates).add(i);
+        }
+
+        for (int from = 0; from < inserts.size(); from += batchChunkSize) {
+            List<Integer> chunk = inserts.subList(from, Math.min(from + batchChunkSize, inserts.size()));
+            List<Long> ids = nextIds(chunk.size());
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Country country = countries.get(chunk.get(i));
+                rows.add(new Object[]{ids.get(i), country.name(), country.code(), country.population()});
+            }
+            writeChunk(INSERT_SQL, chunk, rows, ids, items);
+        }
+
+        for (int from = 0; from < updates.size(); from += batchChunkSize) {
+            List<Integer> chunk = updates.subList(from, Math.min(from + batchChunkSize, updates.size()));
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            List<Long> ids = new ArrayList<>(chunk.size());
+            for (Integer index : chunk) {
+                Country country = countries.get(index);
+                rows.add(new Object[]{country.name(), country.code(), country.population(), country.id()});
+                ids.add(country.id());
+            }
+            writeChunk(UPDATE_SQL, chunk, rows, ids, items);
+        }
+
+        return CountryBatchResult.of(Arrays.asList(items));
+    }
+
+    @Override
+    public CountryUpsertResult upsertAllByCode(List<Country> countries) {
+        Map<String, Country> byCode = new LinkedHashMap<>();
+        countries.forEach(country -> byCode.put(country.code(), country));
+
+        return transactionTemplate.execute(status -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return savepointTemplate.execute(savepoint -> upsertAll(byCode.values()));
+                } catch (DuplicateKeyException e) {
+                    // A concurrent writer inserted one of the new codes first; the next pass updates it.
+                    if (attempt == MAX_UPSERT_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return jdbcTemplate.update("DELETE FROM country WHERE id = ?", id);
+    }
+
+    @Override
+    public boolean updateIfUnchanged(Country expected, Country country) {
+        return jdbcTemplate.update(UPDATE_SQL + UNCHANGED_SQL,
+            country.name(), country.code(), country.population(), expected.id(),
+            expected.name(), expected.code(), expected.population()) > 0;
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(Country expected) {
+        return jdbcTemplate.update("DELETE FROM country WHERE id = ?" + UNCHANGED_SQL,
+            expected.id(), expected.name(), expected.code(), expected.population()) > 0;
+    }
+
+    /**
+     * Updates the codes already stored and inserts the others. An insert only happens while
+     * its code is still absent; one that finds it taken, or breaks the unique index on it,
+     * fails the pass with a {@link DuplicateKeyException} to be rolled back and retried.
+     */
+    private CountryUpsertResult upsertAll(Collection<Country> countries) {
+        Map<String, List<Long>> existing = findIdsByCode(countries.stream().map(Country::code).toList());
+        List<Country> inserted = new ArrayList<>();
+        List<Country> updated = new ArrayList<>();
+        for (Country country : countries) {
+            List<Long> ids = existing.get(country.code());
+            if (ids == null) {
+                inserted.add(new Country(idGenerator.nextId(), country.name(), country.code(), country.population()));
+            } else {
+                ids.forEach(id -> updated.add(new Country(id, country.name(), country.code(), country.population())));
+            }
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, inserted, batchChunkSize, (ps, country) -> {
+            ps.setLong(1, country.id());
+            ps.setString(2, country.name());
+            ps.setString(3, country.code());
+            ps.setLong(4, country.population());
+        });
+        int row = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count == 0) {
+                    throw new DuplicateKeyException("Country code inserted concurrently: " + inserted.get(row).code());
+                }
+                row++;
+            }
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updated, batchChunkSize, (ps, country) -> {
+            ps.setString(1, country.name());
+            ps.setString(2, country.code());
+            ps.setLong(3, country.population());
+            ps.setLong(4, country.id());
+        });
+        return new CountryUpsertResult(inserted, updated);
+    }
+
+    private Map<String, List<Long>> findIdsByCode(List<String> codes) {
+        Map<String, List<Long>> ids = new HashMap<>();
+        for (int from = 0; from < codes.size(); from += batchChunkSize) {
+            List<String> chunk = codes.subList(from, Math.min(from + batchChunkSize, codes.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT id, code FROM country WHERE code IN (" + placeholders + ")",
+                rs -> {
+                    ids.computeIfAbsent(rs.getString("code"), code -> new ArrayList<>()).add(rs.getLong("id"));
+                },
+                chunk.toArray());
+        }
+        return ids;
+    }
+
+    private List<Long> nextIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(idGenerator.nextId());
+        }
+        return ids;
+    }
+
+    /**
+     * Sends one chunk as a single JDBC batch behind a savepoint. If the batch fails it is
+     * rolled back and the rows are replayed one by one, so only the offending rows fail.
+     */
+    private void writeChunk(String sql, List<Integer> indexes, List<Object[]> rows, List<Long> ids, CountryBatchItem[] items) {
+        try {
+            int[] counts = savepointTemplate.execute(status -> jdbcTemplate.batchUpdate(sql, rows));
+            for (int i = 0; i < indexes.size(); i++) {
+                items[indexes.get(i)] = toItem(indexes.get(i), ids.get(i), counts[i]);
+            }
+        } catch (DataAccessException batchFailure) {
+            for (int i = 0; i < indexes.size(); i++) {
+                Object[] row = rows.get(i);
+                try {
+                    int count = savepointTemplate.execute(status -> jdbcTemplate.update(sql, row));
+                    items[indexes.get(i)] = toItem(indexes.get(i), ids.get(i), count);
+                } catch (DataAccessException e) {
+                    items[indexes.get(i)] = CountryBatchItem.failed(indexes.get(i), e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static CountryBatchItem toItem(int index, Long id, int count) {
+        // Drivers may report Statement.SUCCESS_NO_INFO (-2) for batched rows.
+        if (count == 0) {
+            return CountryBatchItem.failed(index, "Country not found");
+        }
+        return CountryBatchItem.saved(index, id);
+    }
+
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
     }
 }
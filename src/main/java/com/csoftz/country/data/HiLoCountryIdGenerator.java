@@ -0,0 +1,168 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   HILOCOUNTRYIDGENERATOR.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  An exhausted block is refilled on the caller's thread when the prefetch is not done.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link CountryIdGenerator} using the hi/lo scheme: every value read from the sequence
+ * (the "hi") reserves the block {@code [hi * blockSize, hi * blockSize + blockSize)}, so
+ * one query serves a whole block of inserts.
+ * <p>
+ * Identifiers are handed out lock-free from the current block. When few of them are
+ * left, the next block is reserved in the background so callers rarely wait on the
+ * database. If the block runs out before that reservation is done, the caller reads the
+ * sequence itself rather than waiting: inside a transaction it then uses the connection
+ * it already holds, instead of needing a second one from a pool its peers may have
+ * exhausted the same way.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class HiLoCountryIdGenerator implements CountryIdGenerator {
+    private final LongSupplier hiSource;
+    private final int blockSize;
+    private final int prefetchThreshold;
+    private final Executor executor;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+    private final AtomicReference<CompletableFuture<Block>> next = new AtomicReference<>();
+    private final Queue<Block> spares = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param hiSource          Uses the source of unique "hi" values, typically {@code country_seq.NEXTVAL}.
+     * @param blockSize         Indicates how many identifiers each "hi" value reserves.
+     * @param prefetchThreshold Indicates how many identifiers may remain when the next block is requested.
+     * @param executor          Uses the executor reserving blocks in the background.
+     */
+    public HiLoCountryIdGenerator(LongSupplier hiSource, int blockSize, int prefetchThreshold, Executor executor) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.hiSource = hiSource;
+        this.blockSize = blockSize;
+        this.prefetchThreshold = Math.clamp(prefetchThreshold, 0, blockSize);
+        this.executor = executor;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Block block = current.get();
+            long id = block.next.getAndIncrement();
+            if (id < block.end) {
+                if (id == block.end - prefetchThreshold) {
+                    nextBlock();
+                }
+                return id;
+            }
+
+            // Blocks left over when another thread replaced the exhausted one are used first.
+            Block fresh = spares.poll();
+            CompletableFuture<Block> pending = null;
+            boolean prefetched = false;
+            if (fresh == null) {
+                pending = next.get();
+                prefetched = pending != null && pending.isDone() && !pending.isCompletedExceptionally();
+                fresh = join(prefetched ? pending : successor(block));
+                if (!prefetched && !fresh.claimed.compareAndSet(false, true)) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+            // Only one thread can replace the exhausted block; the others retry on the new one.
+            if (current.compareAndSet(block, fresh)) {
+                if (prefetched) {
+                    next.compareAndSet(pending, null);
+                }
+            } else if (!prefetched) {
+                spares.offer(fresh);
+            }
+        }
+    }
+
+    private CompletableFuture<Block> successor(Block block) {
+        while (true) {
+            CompletableFuture<Block> pending = block.successor.get();
+            if (pending != null) {
+                return pending;
+            }
+
+            // The first caller to find the block exhausted reserves on its own thread; the others wait for it.
+            CompletableFuture<Block> reserving = new CompletableFuture<>();
+            if (block.successor.compareAndSet(null, reserving)) {
+                reserve(reserving);
+                if (reserving.isCompletedExceptionally()) {
+                    block.successor.compareAndSet(reserving, null);
+                }
+                return reserving;
+            }
+        }
+    }
+
+    private static Block join(CompletableFuture<Block> reserving) {
+        try {
+            return reserving.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private CompletableFuture<Block> nextBlock() {
+        while (true) {
+            CompletableFuture<Block> pending = next.get();
+            if (pending != null) {
+                return pending;
+            }
+
+            CompletableFuture<Block> reserving = new CompletableFuture<>();
+            if (next.compareAndSet(null, reserving)) {
+                reserving.whenComplete((block, failure) -> {
+                    if (failure != null) {
+                        next.compareAndSet(reserving, null);
+                    }
+                });
+                try {
+                    executor.execute(() -> reserve(reserving));
+                } catch (RuntimeException e) {
+                    reserving.completeExceptionally(e);
+                }
+                return reserving;
+            }
+        }
+    }
+
+    private void reserve(CompletableFuture<Block> reserving) {
+        try {
+            long hi = hiSource.getAsLong();
+            reserving.complete(new Block(hi * blockSize, hi * blockSize + blockSize));
+        } catch (RuntimeException e) {
+            reserving.completeExceptionally(e);
+        }
+    }
+
+    private static final class Block {
+        final AtomicLong next;
+        final long end;
+        final AtomicReference<CompletableFuture<Block>> successor = new AtomicReference<>();
+        final AtomicBoolean claimed = new AtomicBoolean();
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
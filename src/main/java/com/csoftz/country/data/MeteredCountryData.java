@@ -0,0 +1,246 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   METEREDCOUNTRYDATA.JAVA                                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added upsertAllByCode.
+ Oct.17/2026  COQ  Added findByCode and findByPopulationBetween.
+ Oct.17/2026  COQ  Added findAllById.
+ Oct.17/2026  COQ  Added updatePopulations.
+ Oct.17/2026  COQ  Meters are tagged with the target database.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountryUpsertResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Metrics decorating another {@link CountryData}, recording for every operation:
+ * <ul>
+ *     <li>{@value #CALLS}: a timer with a percentile histogram of the call latency.</li>
+ *     <li>{@value #ROWS}: a distribution of the rows returned or written per call.</li>
+ *     <li>{@value #ERRORS}: a counter of the failed calls, tagged with the exception.</li>
+ * </ul>
+ * All of them are tagged with the operation name and the {@code target} database, so a
+ * primary and a replica each keep meters of their own. The time {@link #streamAll(Consumer)}
+ * spends in its action, usually serializing the response, is left out of its timer, so
+ * the timers only hold the time spent in the delegate.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryData
+ */
+public class MeteredCountryData implements CountryData {
+    static final String CALLS = "country.data.calls";
+    static final String ROWS = "country.data.rows";
+    static final String ERRORS = "country.data.errors";
+
+    private final CountryData delegate;
+    private final MeterRegistry registry;
+    private final String target;
+    private final Operation findAll;
+    private final Operation findById;
+    private final Operation findAllById;
+    private final Operation findByCode;
+    private final Operation findByPopulationBetween;
+    private final Operation findPage;
+    private final Operation streamAll;
+    private final Operation save;
+    private final Operation update;
+    private final Operation updatePopulations;
+    private final Operation upsertByCode;
+    private final Operation saveAll;
+    private final Operation upsertAllByCode;
+    private final Operation deleteById;
+    private final Operation updateIfUnchanged;
+    private final Operation deleteIfUnchanged;
+
+    public MeteredCountryData(CountryData delegate, MeterRegistry registry, String target) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.target = target;
+        this.findAll = new Operation("findAll");
+        this.findById = new Operation("findById");
+        this.findAllById = new Operation("findAllById");
+        this.findByCode = new Operation("findByCode");
+        this.findByPopulationBetween = new Operation("findByPopulationBetween");
+        this.findPage = new Operation("findPage");
+        this.streamAll = new Operation("streamAll");
+        this.save = new Operation("save");
+        this.update = new Operation("update");
+        this.updatePopulations = new Operation("updatePopulations");
+        this.upsertByCode = new Operation("upsertByCode");
+        this.saveAll = new Operation("saveAll");
+        this.upsertAllByCode = new Operation("upsertAllByCode");
+        this.deleteById = new Operation("deleteById");
+        this.updateIfUnchanged = new Operation("updateIfUnchanged");
+        this.deleteIfUnchanged = new Operation("deleteIfUnchanged");
+    }
+
+    @Override
+    public List<Country> findAll() {
+        return findAll.call(delegate::findAll, List::size);
+    }
+
+    @Override
+    public Optional<Country> findById(Long id) {
+        return findById.call(() -> delegate.findById(id), country -> country.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public List<Country> findAllById(Collection<Long> ids) {
+        return findAllById.call(() -> delegate.findAllById(ids), List::size);
+    }
+
+    @Override
+    public Optional<Country> findByCode(String code) {
+        return findByCode.call(() -> delegate.findByCode(code), country -> country.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        return findByPopulationBetween.call(() -> delegate.findByPopulationBetween(minPopulation, maxPopulation), List::size);
+    }
+
+    @Override
+    public CountryPage findPage(CountryQuery query) {
+        return findPage.call(() -> delegate.findPage(query), page -> page.items().size());
+    }
+
+    @Override
+    public void streamAll(Consumer<Country> action) {
+        long[] rows = new long[1];
+        long[] actionNanos = new long[1];
+        long start = System.nanoTime();
+        try {
+            delegate.streamAll(country -> {
+                long actionStart = System.nanoTime();
+                try {
+                    action.accept(country);
+                } finally {
+                    actionNanos[0] += System.nanoTime() - actionStart;
+                }
+                rows[0]++;
+            });
+        } catch (RuntimeException e) {
+            streamAll.failed(e);
+            throw e;
+        } finally {
+            streamAll.timer.record(System.nanoTime() - start - actionNanos[0], TimeUnit.NANOSECONDS);
+        }
+        streamAll.rows.record(rows[0]);
+    }
+
+    @Override
+    public Country save(Country country) {
+        return save.call(() -> delegate.save(country), saved -> 1);
+    }
+
+    @Override
+    public int update(Country country) {
+        return update.call(() -> delegate.update(country), Integer::longValue);
+    }
+
+    @Override
+    public int updatePopulations(Map<Long, Long> populations) {
+        return updatePopulations.call(() -> delegate.updatePopulations(populations), Integer::longValue);
+    }
+
+    @Override
+    public List<Country> upsertByCode(Country country) {
+        return upsertByCode.call(() -> delegate.upsertByCode(country), List::size);
+    }
+
+    @Override
+    public CountryBatchResult saveAll(List<Country> countries) {
+        return saveAll.call(() -> delegate.saveAll(countries), CountryBatchResult::saved);
+    }
+
+    @Override
+    public CountryUpsertResult upsertAllByCode(List<Country> countries) {
+        return upsertAllByCode.call(() -> delegate.upsertAllByCode(countries),
+            result -> result.inserted().size() + result.updated().size());
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return deleteById.call(() -> delegate.deleteById(id), Integer::longValue);
+    }
+
+    @Override
+    public boolean updateIfUnchanged(Country expected, Country country) {
+        return updateIfUnchanged.call(() -> delegate.updateIfUnchanged(expected, country), updated -> updated ? 1 : 0);
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(Country expected) {
+        return deleteIfUnchanged.call(() -> delegate.deleteIfUnchanged(expected), deleted -> deleted ? 1 : 0);
+    }
+
+    /**
+     * Meters of one operation, registered once so recording a call needs no lookup.
+     */
+    private final class Operation {
+        private final String name;
+        private final Timer timer;
+        private final DistributionSummary rows;
+
+        Operation(String name) {
+            this.name = name;
+            this.timer = Timer.builder(CALLS)
+                .description("Time spent in country data access calls")
+                .tag("operation", name)
+                .tag("target", target)
+                .publishPercentileHistogram()
+                .register(registry);
+            this.rows = DistributionSummary.builder(ROWS)
+                .description("Rows returned or written by country data access calls")
+                .baseUnit("rows")
+                .tag("operation", name)
+                .tag("target", target)
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+
+        <T> T call(Supplier<T> operation, ToLongFunction<T> rowCount) {
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = operation.get();
+            } catch (RuntimeException e) {
+                failed(e);
+                throw e;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            rows.record(rowCount.applyAsLong(result));
+            return result;
+        }
+
+        void failed(RuntimeException e) {
+            Counter.builder(ERRORS)
+                .description("Failed country data access calls")
+                .tag("operation", name)
+                .tag("target", target)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   ROUTINGCOUNTRYDATA.JAVA                                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Population updates only keep reads of the countries they wrote on the primary.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountryUpsertResult;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes reads to a {@link CountryData} on a read replica and writes to one on the primary
+ * database, so read traffic does not compete with writes for connections.
+ * <p>
+ * Reads go to the primary as well inside a read-write transaction, and for the stickiness
+ * window after a write, so what was just written is read back even while the replica
+ * lags. The window is shared by all callers on purpose: the cache above reloads from here
+ * right after a write, and must not keep a stale copy for its whole time to live. It
+ * should be longer than the usual replica lag; zero turns it off.
+ * <p>
+ * Population updates are the exception. They are flushed from a buffer every fraction of a
+ * second, and the cache applies them to its rows itself, so they only keep reads of the
+ * countries they wrote on the primary; otherwise a steady stream of them would keep every
+ * read off the replica.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryData
+ */
+public class RoutingCountryData implements CountryData {
+    private final CountryData primary;
+    private final CountryData replica;
+    private final long stickinessNanos;
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final Map<Long, Long> stickyIds = new ConcurrentHashMap<>();
+    private volatile long stickyUntil = System.nanoTime();
+
+    public RoutingCountryData(CountryData primary, CountryData replica, Duration stickiness) {
+        this.primary = primary;
+        this.replica = replica;
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    @Override
+    public List<Country> findAll() {
+        return reader().findAll();
+    }
+
+    @Override
+    public Optional<Country> findById(Long id) {
+        return reader(Collections.singletonList(id)).findById(id);
+    }
+
+    @Override
+    public List<Country> findAllById(Collection<Long> ids) {
+        return reader(ids).findAllById(ids);
+    }
+
+    @Override
+    public Optional<Country> findByCode(String code) {
+        return reader().findByCode(code);
+    }
+
+    @Override
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        return reader().findByPopulationBetween(minPopulation, maxPopulation);
+    }
+
+    @Override
+    public CountryPage findPage(CountryQuery query) {
+        return reader().findPage(query);
+    }
+
+    @Override
+    public void streamAll(Consumer<Country> action) {
+        reader().streamAll(action);
+    }
+
+    @Override
+    public Country save(Country country) {
+        return write(() -> primary.save(country));
+    }
+
+    @Override
+    public int update(Country country) {
+        return write(() -> primary.update(country));
+    }
+
+    @Override
+    public int updatePopulations(Map<Long, Long> populations) {
+        List<Long> ids = List.copyOf(populations.keySet());
+        return write(() -> primary.updatePopulations(populations), () -> stick(ids));
+    }
+
+    @Override
+    public List<Country> upsertByCode(Country country) {
+        return write(() -> primary.upsertByCode(country));
+    }
+
+    @Override
+    public CountryBatchResult saveAll(List<Country> countries) {
+        return write(() -> primary.saveAll(countries));
+    }
+
+    @Override
+    public CountryUpsertResult upsertAllByCode(List<Country> countries) {
+        return write(() -> primary.upsertAllByCode(countries));
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return write(() -> primary.deleteById(id));
+    }
+
+    @Override
+    public boolean updateIfUnchanged(Country expected, Country country) {
+        return write(() -> primary.updateIfUnchanged(expected, country));
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(Country expected) {
+        return write(() -> primary.deleteIfUnchanged(expected));
+    }
+
+    /**
+     * Retrieves how many reads went to the primary since the router was created.
+     *
+     * @return The number of reads sent to the primary.
+     */
+    public long primaryReads() {
+        return primaryReads.sum();
+    }
+
+    /**
+     * Retrieves how many reads went to the replica since the router was created.
+     *
+     * @return The number of reads sent to the replica.
+     */
+    public long replicaReads() {
+        return replicaReads.sum();
+    }
+
+    private CountryData reader() {
+        return reader(List.of());
+    }
+
+    private CountryData reader(Collection<Long> ids) {
+        boolean writing = TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        long now = System.nanoTime();
+        if (writing || now - stickyUntil < 0 || isSticky(ids, now)) {
+            primaryReads.increment();
+            return primary;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private <T> T write(Supplier<T> operation) {
+        return write(operation, this::stick);
+    }
+
+    private <T> T write(Supplier<T> operation, Runnable stick) {
+        try {
+            return operation.get();
+        } finally {
+            stick.run();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                // The replica only sees the write once the transaction commits.
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        stick.run();
+                    }
+                });
+            }
+        }
+    }
+
+    private void stick() {
+        if (stickinessNanos > 0) {
+            stickyUntil = System.nanoTime() + stickinessNanos;
+        }
+    }
+
+    private void stick(Collection<Long> ids) {
+        if (stickinessNanos > 0) {
+            long now = System.nanoTime();
+            stickyIds.values().removeIf(until -> now - until >= 0);
+            ids.forEach(id -> stickyIds.put(id, now + stickinessNanos));
+        }
+    }
+
+    private boolean isSticky(Collection<Long> ids, long now) {
+        if (stickyIds.isEmpty()) {
+            return false;
+        }
+        for (Long id : ids) {
+            Long until = id == null ? null : stickyIds.get(id);
+            if (until != null && now - until < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
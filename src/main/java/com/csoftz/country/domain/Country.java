@@ -5,15 +5,20 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Codes are normalized on construction.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country.domain;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.util.Locale;
 
 /**
  * Represents Countries information.
+ * <p>
+ * The code is normalized on construction, so every country written, whatever the casing a
+ * client used, is stored with the same code it is looked up by.
  *
  * @param id         Indicates the unique identifier for the Country.
  * @param name       Description about the Country.
@@ -31,4 +36,20 @@ public record Country(Long id,
                       @NotNull(message = "Population is required")
                       @Min(value = 0, message = "Population must be non-negative")
                       Long population) {
+
+    public Country {
+        if (code != null) {
+            code = normalizeCode(code);
+        }
+    }
+
+    /**
+     * Normalizes a country code the way it is stored and looked up.
+     *
+     * @param code Indicates the code as given by a client.
+     * @return The code without surrounding blanks, in upper case.
+     */
+    public static String normalizeCode(String code) {
+        return code.strip().toUpperCase(Locale.ROOT);
+    }
 }
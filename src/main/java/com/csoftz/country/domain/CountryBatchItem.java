@@ -0,0 +1,38 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYBATCHITEM.JAVA                                       */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+/**
+ * Outcome of saving one country of a batch.
+ *
+ * @param index Indicates the position of the country in the submitted batch.
+ * @param id    Indicates the unique identifier of the saved country, or null if it failed.
+ * @param error Describes why the country was not saved, or null if it succeeded.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryBatchResult
+ */
+public record CountryBatchItem(int index, Long id, String error) {
+
+    public static CountryBatchItem saved(int index, Long id) {
+        return new CountryBatchItem(index, id, null);
+    }
+
+    public static CountryBatchItem failed(int index, String error) {
+        return new CountryBatchItem(index, null, error);
+    }
+
+    /**
+     * Tells whether the country was saved.
+     *
+     * @return true if the country was saved, false otherwise.
+     */
+    public boolean isSaved() {
+        return error == null;
+    }
+}
@@ -0,0 +1,34 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYBATCHRESULT.JAVA                                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+
+/**
+ * Outcome of saving a batch of countries.
+ *
+ * @param saved  Indicates how many countries were saved.
+ * @param failed Indicates how many countries were rejected or failed to be written.
+ * @param items  Indicates the outcome of every country, in the order they were submitted.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryBatchItem
+ */
+public record CountryBatchResult(int saved, int failed, List<CountryBatchItem> items) {
+
+    /**
+     * Builds the result, counting saved and failed items.
+     *
+     * @param items Indicates the outcome of every country, in the order they were submitted.
+     * @return The {@link CountryBatchResult} for the items.
+     */
+    public static CountryBatchResult of(List<CountryBatchItem> items) {
+        int saved = (int) items.stream().filter(CountryBatchItem::isSaved).count();
+        return new CountryBatchResult(saved, items.size() - saved, List.copyOf(items));
+    }
+}
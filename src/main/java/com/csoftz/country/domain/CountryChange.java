@@ -0,0 +1,24 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGE.JAVA                                          */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+
+/**
+ * One change to the country table as listed by the change feed.
+ *
+ * @param sequence Indicates the position of the change in the feed, increasing with each change.
+ * @param type     Indicates whether the country was saved or deleted.
+ * @param id       Indicates the unique identifier of the changed country.
+ * @param country  Indicates the country as persisted, or null when it was deleted.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChangePage
+ */
+public record CountryChange(long sequence, CountryChangedEvent.Type type, Long id, Country country) {
+}
@@ -0,0 +1,23 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGEPAGE.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+
+/**
+ * A page of the change feed, listing the changes after a position in order.
+ *
+ * @param changes Indicates the changes after the requested position, oldest first.
+ * @param next    Indicates the position to ask from for the following changes.
+ * @param more    Indicates whether more changes are already waiting after {@code next}.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChange
+ */
+public record CountryChangePage(List<CountryChange> changes, long next, boolean more) {
+}
@@ -0,0 +1,63 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCURSOR.JAVA                                          */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last country returned in a page, used to seek to the next one.
+ * <p>
+ * It is handed to clients as an opaque URL-safe token.
+ *
+ * @param sort       Indicates the order the cursor was produced for.
+ * @param population Indicates the population of the last country, used with {@link CountrySort#POPULATION}.
+ * @param id         Indicates the unique identifier of the last country.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryPage
+ */
+public record CountryCursor(CountrySort sort, long population, long id) {
+
+    /**
+     * Builds the cursor pointing right after the given country.
+     *
+     * @param sort    Indicates the order of the page.
+     * @param country Uses the last {@link Country} of the page.
+     * @return The cursor for the next page.
+     */
+    public static CountryCursor after(CountrySort sort, Country country) {
+        long population = country.population() == null ? 0 : country.population();
+        return new CountryCursor(sort, population, country.id());
+    }
+
+    /**
+     * Parses a token previously produced by {@link #encode()}.
+     *
+     * @param token Indicates the opaque cursor token.
+     * @return The decoded {@link CountryCursor}.
+     * @throws IllegalArgumentException If the token is malformed.
+     */
+    public static CountryCursor decode(String token) {
+        String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        return new CountryCursor(CountrySort.of(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe token.
+     *
+     * @return The token to hand to clients.
+     */
+    public String encode() {
+        String value = sort.name() + ":" + population + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
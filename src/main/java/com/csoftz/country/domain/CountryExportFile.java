@@ -0,0 +1,25 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYEXPORTFILE.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.nio.file.Path;
+
+/**
+ * A rendered export snapshot of the country table, ready to be sent as is.
+ *
+ * @param path    Indicates where the snapshot file is.
+ * @param length  Indicates the size of the file in bytes.
+ * @param etag    Indicates the quoted strong tag of the file content.
+ * @param format  Indicates the representation of the countries in the file.
+ * @param gzipped Indicates whether the file is gzip encoded.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryExportFormat
+ */
+public record CountryExportFile(Path path, long length, String etag, CountryExportFormat format, boolean gzipped) {
+}
@@ -0,0 +1,55 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYEXPORTFORMAT.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.Locale;
+
+/**
+ * Representations the country table is exported in.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryExportFile
+ */
+public enum CountryExportFormat {
+    /**
+     * A single JSON array.
+     */
+    JSON("application/json", "json"),
+    /**
+     * One JSON object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    CountryExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Resolves a format from its request parameter value, ignoring case.
+     *
+     * @param value Indicates the requested format, {@code json} or {@code ndjson}.
+     * @return The matching {@link CountryExportFormat}.
+     * @throws IllegalArgumentException If the value is not a supported format.
+     */
+    public static CountryExportFormat of(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
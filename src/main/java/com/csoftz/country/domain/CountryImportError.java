@@ -0,0 +1,20 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYIMPORTERROR.JAVA                                     */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+/**
+ * A record of an imported feed that was rejected.
+ *
+ * @param line  Indicates the line of the feed where the record starts.
+ * @param error Describes why the record was rejected.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryImportResult
+ */
+public record CountryImportError(long line, String error) {
+}
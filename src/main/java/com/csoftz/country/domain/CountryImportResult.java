@@ -0,0 +1,24 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYIMPORTRESULT.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+
+/**
+ * Summary of importing a country feed.
+ *
+ * @param inserted Indicates how many countries were created.
+ * @param updated  Indicates how many records updated a country with the same code.
+ * @param rejected Indicates how many records were not valid countries.
+ * @param errors   Describes the first rejected records; there may be fewer than rejected.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryImportError
+ */
+public record CountryImportResult(long inserted, long updated, long rejected, List<CountryImportError> errors) {
+}
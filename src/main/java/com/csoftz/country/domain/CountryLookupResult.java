@@ -0,0 +1,22 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYLOOKUPRESULT.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+
+/**
+ * Result of looking up many countries by their identifiers at once.
+ *
+ * @param countries Lists the countries found, in the order their identifiers were requested.
+ * @param missing   Lists the requested identifiers no country has, in the order they were requested.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see Country
+ */
+public record CountryLookupResult(List<Country> countries, List<Long> missing) {
+}
@@ -0,0 +1,23 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYPAGE.JAVA                                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+
+/**
+ * One page of countries read with keyset (seek) pagination.
+ *
+ * @param items Indicates the countries in the page, in the requested order.
+ * @param next  Indicates the cursor token to request the following page, or null on the last page.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryQuery
+ * @see CountryCursor
+ */
+public record CountryPage(List<Country> items, String next) {
+}
@@ -0,0 +1,24 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYPOPULATION.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * New population of a country, sent on its own instead of the whole country.
+ *
+ * @param population Indicates the number of people for the Country.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see Country
+ */
+public record CountryPopulation(@NotNull(message = "Population is required")
+                                @Min(value = 0, message = "Population must be non-negative")
+                                Long population) {
+}
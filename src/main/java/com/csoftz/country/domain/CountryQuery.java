@@ -0,0 +1,31 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYQUERY.JAVA                                           */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+/**
+ * Criteria for reading one page of countries with keyset (seek) pagination.
+ *
+ * @param namePrefix    Indicates the prefix the name must start with, or null for any name.
+ * @param codePrefix    Indicates the prefix the code must start with, or null for any code.
+ * @param minPopulation Indicates the minimum population (inclusive), or null for no lower bound.
+ * @param maxPopulation Indicates the maximum population (inclusive), or null for no upper bound.
+ * @param sort          Indicates the order of the page.
+ * @param limit         Indicates the maximum number of countries in the page.
+ * @param after         Uses the position to continue from, or null to start with the first page.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryPage
+ */
+public record CountryQuery(String namePrefix,
+                           String codePrefix,
+                           Long minPopulation,
+                           Long maxPopulation,
+                           CountrySort sort,
+                           int limit,
+                           CountryCursor after) {
+}
@@ -0,0 +1,39 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSORT.JAVA                                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.Locale;
+
+/**
+ * Orders supported when paging through countries.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryQuery
+ */
+public enum CountrySort {
+    /**
+     * Ascending unique identifier.
+     */
+    ID,
+    /**
+     * Ascending population, ties broken by ascending unique identifier.
+     */
+    POPULATION;
+
+    /**
+     * Resolves a sort from its request parameter value, ignoring case.
+     *
+     * @param value Indicates the requested sort, {@code id} or {@code population}.
+     * @return The matching {@link CountrySort}.
+     * @throws IllegalArgumentException If the value is not a supported sort.
+     */
+    public static CountrySort of(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,34 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTATS.JAVA                                           */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregate statistics of all stored countries. Its size depends on the configured top and
+ * percentiles only, not on how many countries there are.
+ *
+ * @param count           Indicates how many countries are stored.
+ * @param totalPopulation Indicates the sum of the population of every country.
+ * @param minPopulation   Indicates the smallest population, or null if there are no countries.
+ * @param maxPopulation   Indicates the largest population, or null if there are no countries.
+ * @param top             Lists the most populated countries, largest first.
+ * @param percentiles     Maps each quantile name, such as {@code p99}, to its approximate population,
+ *                        within about 3% of the exact one.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see Country
+ */
+public record CountryStats(long count,
+                           long totalPopulation,
+                           Long minPopulation,
+                           Long maxPopulation,
+                           List<Country> top,
+                           Map<String, Long> percentiles) {
+}
@@ -0,0 +1,21 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYUPSERTRESULT.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.domain;
+
+import java.util.List;
+
+/**
+ * Countries written by an upsert on the natural identifier (code).
+ *
+ * @param inserted Indicates the countries created, with their assigned identifiers.
+ * @param updated  Indicates the countries that already existed, with their new values.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record CountryUpsertResult(List<Country> inserted, List<Country> updated) {
+}
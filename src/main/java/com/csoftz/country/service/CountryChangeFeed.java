@@ -0,0 +1,143 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGEFEED.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.common.exception.CountryChangesUnavailableException;
+import com.csoftz.country.config.CountryChangeFeedProperties;
+import com.csoftz.country.domain.CountryChange;
+import com.csoftz.country.domain.CountryChangePage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Numbers every change to the country table and keeps the latest ones, so clients keeping
+ * a copy of the table can fetch what changed since they last looked instead of reading it
+ * all again.
+ * <p>
+ * Changes are taken from {@link CountryChangedEvent} once their transaction commits and
+ * stored in a ring holding the configured number of them. Positions start from the clock
+ * when the application starts, so a position handed out before a restart is older than
+ * any the feed holds and is refused instead of being answered with the wrong changes.
+ * The feed is kept per instance.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChange
+ * @see CountryChangePage
+ */
+@Component
+public class CountryChangeFeed {
+    private final CountryChange[] changes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final long start;
+    private long latest;
+
+    public CountryChangeFeed(CountryChangeFeedProperties properties) {
+        this.changes = new CountryChange[properties.capacity()];
+        this.start = System.currentTimeMillis() * 1000;
+        this.latest = start;
+    }
+
+    /**
+     * Gives the position of the latest change, from which a client that has just read all
+     * countries follows the feed.
+     *
+     * @return The position of the latest change.
+     */
+    public long latest() {
+        lock.lock();
+        try {
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lists the changes after a position.
+     *
+     * @param since Uses the position after which changes are listed.
+     * @param limit Uses the largest number of changes listed.
+     * @return A {@link CountryChangePage} with the changes, empty if there are none yet.
+     * @throws CountryChangesUnavailableException If the changes after the position were dropped.
+     */
+    public CountryChangePage changesSince(long since, int limit) {
+        lock.lock();
+        try {
+            return page(since, limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lists the changes after a position, waiting for one to happen if there are none yet.
+     *
+     * @param since   Uses the position after which changes are listed.
+     * @param limit   Uses the largest number of changes listed.
+     * @param timeout Uses how long to wait for a change.
+     * @return A {@link CountryChangePage} with the changes, empty if none happened in time.
+     * @throws CountryChangesUnavailableException If the changes after the position were dropped.
+     * @throws InterruptedException               If the thread is interrupted while waiting.
+     */
+    public CountryChangePage awaitChangesSince(long since, int limit, Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (latest == since && remaining > 0) {
+                remaining = appended.awaitNanos(remaining);
+            }
+            return page(since, limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a change to the feed and wakes up anyone waiting for it.
+     *
+     * @param event Uses the event describing the change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryChanged(CountryChangedEvent event) {
+        lock.lock();
+        try {
+            latest++;
+            changes[slot(latest)] = new CountryChange(latest, event.type(), event.id(), event.country());
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CountryChangePage page(long since, int limit) {
+        long oldest = Math.max(start, latest - changes.length);
+        if (since < oldest || since > latest) {
+            throw new CountryChangesUnavailableException(
+                "Changes after " + since + " are not available, the feed holds those after " + oldest);
+        }
+
+        int count = (int) Math.min(limit, latest - since);
+        List<CountryChange> page = new ArrayList<>(count);
+        for (long sequence = since + 1; sequence <= since + count; sequence++) {
+            page.add(changes[slot(sequence)]);
+        }
+        return new CountryChangePage(page, since + count, since + count < latest);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % changes.length);
+    }
+}
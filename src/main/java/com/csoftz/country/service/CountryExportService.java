@@ -0,0 +1,37 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYEXPORTSERVICE.JAVA                                   */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.domain.CountryExportFile;
+import com.csoftz.country.domain.CountryExportFormat;
+
+/**
+ * Service interface for the export snapshots of the country table: files rendered once
+ * per change and then served as many times as they are requested.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryExportFile
+ */
+public interface CountryExportService {
+    /**
+     * Retrieves the current snapshot in a representation, rendering the snapshots first if
+     * there are none yet.
+     *
+     * @param format  Indicates the representation of the countries.
+     * @param gzipped Indicates whether the gzip encoded file is wanted.
+     * @return The {@link CountryExportFile} of the current snapshot.
+     */
+    CountryExportFile current(CountryExportFormat format, boolean gzipped);
+
+    /**
+     * Renders the snapshots from the data as it is now. If nothing changed since the last
+     * rendering, the current files are kept.
+     */
+    void refresh();
+}
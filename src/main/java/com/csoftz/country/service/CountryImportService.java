@@ -0,0 +1,32 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYIMPORTSERVICE.JAVA                                   */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.feed.CountryFeedReader;
+import com.csoftz.country.domain.CountryImportResult;
+import java.io.IOException;
+
+/**
+ * Service interface for importing country feeds.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryFeedReader
+ */
+public interface CountryImportService {
+    /**
+     * Creates or updates, by code, every valid country of the feed. Records are written in
+     * chunks, each in its own transaction, so a failure leaves the chunks before it stored;
+     * since the import is an upsert, sending the same feed again is safe.
+     *
+     * @param reader Uses the reader over the feed. It is read to its end but not closed.
+     * @return A {@link CountryImportResult} with the inserted, updated and rejected counts.
+     * @throws IOException If reading the feed fails.
+     */
+    CountryImportResult importCountries(CountryFeedReader reader) throws IOException;
+}
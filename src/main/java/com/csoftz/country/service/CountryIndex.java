@@ -0,0 +1,339 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYINDEX.JAVA                                           */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Duplicate codes resolve to the lowest identifier; normalize delegates to Country.
+ Oct.17/2026  COQ  Single changes move a country within the population index; full sorts run outside the lock.
+ Oct.17/2026  COQ  A failed load is logged and retried; the indexes are reloaded every refresh interval.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryIndexProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory indexes answering lookups by code and by population range without going to
+ * the database.
+ * <p>
+ * Codes are kept in a hash index keyed by their normalized form. A code held by several
+ * countries resolves to the lowest identifier, as the database lookup does. Populations are kept in a
+ * sorted {@code long[]} searched by binary search, with the countries in the same order
+ * beside it. Both are loaded when the application is ready and then kept up to date from
+ * {@link CountryChangedEvent}; changes arriving while loading are applied on top of it.
+ * A single change moves its country within the sorted arrays, copying them without sorting.
+ * A burst of changes between two range lookups, such as an import, drops them instead,
+ * and the next range lookup sorts every country again, outside the lock changes are
+ * applied under, so the burst pays for one sort.
+ * <p>
+ * Until loaded, or when disabled, {@link #isReady()} is false and callers use the database.
+ * A failed load is logged rather than failing the startup. The indexes are loaded again
+ * every refresh interval, on the same bound as the data cache, so writes made by other
+ * instances or outside the application show up and a failed load is retried.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChangedEvent
+ */
+@Component
+public class CountryIndex {
+    private static final Logger logger = LoggerFactory.getLogger(CountryIndex.class);
+    private static final Comparator<Country> BY_POPULATION =
+        Comparator.comparing(Country::population).thenComparing(Country::id);
+    private static final int MAX_INCREMENTAL_CHANGES = 32;
+
+    private final CountryData countryData;
+    private final boolean enabled;
+    private final Map<Long, Country> byId = new ConcurrentHashMap<>();
+    private final Map<String, Country> byCode = new ConcurrentHashMap<>();
+    private final Map<String, Integer> codeCounts = new HashMap<>();
+    private final Object lock = new Object();
+    private List<CountryChangedEvent> pending;
+    private long version;
+    private volatile int changesSinceLookup;
+    private volatile PopulationIndex populationIndex;
+    private volatile boolean ready;
+
+    public CountryIndex(CountryData countryData, CountryIndexProperties properties) {
+        this.countryData = countryData;
+        this.enabled = properties.enabled();
+    }
+
+    /**
+     * Normalizes a country code the way the code index keys it.
+     *
+     * @param code Indicates the code as given by a client.
+     * @return The code without surrounding blanks, in upper case.
+     */
+    public static String normalize(String code) {
+        return Country.normalizeCode(code);
+    }
+
+    /**
+     * Tells whether the indexes are loaded and can answer lookups.
+     *
+     * @return true if the indexes are loaded.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Loads the indexes once the application is ready. A failure leaves them not ready, so
+     * callers use the database until the next refresh loads them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * Loads the indexes again, keeping the current ones if that fails.
+     */
+    @Scheduled(initialDelayString = "${country.index.refresh-interval:5m}",
+        fixedDelayString = "${country.index.refresh-interval:5m}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Loading the country indexes failed, {}",
+                ready ? "keeping the current ones" : "lookups use the database", e);
+        }
+    }
+
+    /**
+     * Loads the indexes from every country stored, replacing their content.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        List<Country> countries;
+        try {
+            countries = countryData.findAll();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            byId.clear();
+            byCode.clear();
+            codeCounts.clear();
+            countries.forEach(this::put);
+            pending.forEach(this::apply);
+            pending = null;
+            version++;
+            populationIndex = null;
+            ready = true;
+        }
+        logger.info("Indexed {} countries by code and population", countries.size());
+    }
+
+    /**
+     * Finds a country by its code.
+     *
+     * @param code Indicates the code, already normalized with {@link #normalize(String)}.
+     * @return An {@link Optional} containing the {@link Country}, or empty if none has that code.
+     */
+    public Optional<Country> findByCode(String code) {
+        return Optional.ofNullable(byCode.get(code));
+    }
+
+    /**
+     * Retrieves the countries whose population lies in a range, ordered by population
+     * and then by identifier.
+     *
+     * @param minPopulation Indicates the minimum population (inclusive), or null for no lower bound.
+     * @param maxPopulation Indicates the maximum population (inclusive), or null for no upper bound.
+     * @return An unmodifiable list of the matching {@link Country} objects.
+     */
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        changesSinceLookup = 0;
+        PopulationIndex index = populationIndex;
+        if (index == null) {
+            index = sortPopulations();
+        }
+
+        int from = minPopulation == null ? 0 : index.search(minPopulation, false);
+        int to = maxPopulation == null ? index.populations.length : index.search(maxPopulation, true);
+        if (from >= to) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(index.countries, from, to)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryChanged(CountryChangedEvent event) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(event);
+            }
+            if (ready) {
+                apply(event);
+            }
+        }
+    }
+
+    // Sorts without holding the lock; the result is kept only if no change was applied meanwhile.
+    private PopulationIndex sortPopulations() {
+        long seen;
+        synchronized (lock) {
+            seen = version;
+        }
+        Country[] countries = byId.values().stream()
+            .filter(country -> country.population() != null)
+            .sorted(BY_POPULATION)
+            .toArray(Country[]::new);
+        long[] populations = new long[countries.length];
+        for (int i = 0; i < countries.length; i++) {
+            populations[i] = countries[i].population();
+        }
+        PopulationIndex index = new PopulationIndex(populations, countries);
+        synchronized (lock) {
+            if (version == seen && populationIndex == null) {
+                populationIndex = index;
+            }
+        }
+        return index;
+    }
+
+    private void apply(CountryChangedEvent event) {
+        Country previous;
+        Country current = null;
+        if (event.type() == CountryChangedEvent.Type.SAVED) {
+            current = event.country();
+            previous = byId.get(current.id());
+            put(current);
+        } else {
+            previous = byId.remove(event.id());
+            remove(previous);
+        }
+        version++;
+
+        PopulationIndex index = populationIndex;
+        if (index != null && changesSinceLookup < MAX_INCREMENTAL_CHANGES) {
+            changesSinceLookup++;
+            populationIndex = index.without(previous).with(current);
+        } else {
+            populationIndex = null;
+        }
+    }
+
+    private void put(Country country) {
+        remove(byId.put(country.id(), country));
+        if (country.code() != null) {
+            String code = normalize(country.code());
+            codeCounts.merge(code, 1, Integer::sum);
+            byCode.merge(code, country, (known, candidate) -> candidate.id() < known.id() ? candidate : known);
+        }
+    }
+
+    private void remove(Country previous) {
+        if (previous != null && previous.code() != null) {
+            String code = normalize(previous.code());
+            codeCounts.merge(code, -1, (count, decrement) -> count + decrement == 0 ? null : count + decrement);
+            if (byCode.remove(code, previous) && codeCounts.containsKey(code)) {
+                // Another country holds the code too; the lowest identifier takes over.
+                byId.values().stream()
+                    .filter(country -> country.code() != null && code.equals(normalize(country.code())))
+                    .min(Comparator.comparing(Country::id))
+                    .ifPresent(country -> byCode.put(code, country));
+            }
+        }
+    }
+
+    /**
+     * Populations in ascending order, with the country holding each one at the same position.
+     */
+    private record PopulationIndex(long[] populations, Country[] countries) {
+
+        /**
+         * Gives a copy of this index without the country, or this index if it does not hold it.
+         */
+        PopulationIndex without(Country country) {
+            if (country == null || country.population() == null) {
+                return this;
+            }
+            int at = Arrays.binarySearch(countries, country, BY_POPULATION);
+            if (at < 0) {
+                return this;
+            }
+            long[] newPopulations = new long[populations.length - 1];
+            Country[] newCountries = new Country[countries.length - 1];
+            System.arraycopy(populations, 0, newPopulations, 0, at);
+            System.arraycopy(populations, at + 1, newPopulations, at, populations.length - at - 1);
+            System.arraycopy(countries, 0, newCountries, 0, at);
+            System.arraycopy(countries, at + 1, newCountries, at, countries.length - at - 1);
+            return new PopulationIndex(newPopulations, newCountries);
+        }
+
+        /**
+         * Gives a copy of this index with the country in its place.
+         */
+        PopulationIndex with(Country country) {
+            if (country == null || country.population() == null) {
+                return this;
+            }
+            int at = Arrays.binarySearch(countries, country, BY_POPULATION);
+            if (at >= 0) {
+                Country[] newCountries = countries.clone();
+                newCountries[at] = country;
+                return new PopulationIndex(populations, newCountries);
+            }
+            at = -at - 1;
+            long[] newPopulations = new long[populations.length + 1];
+            Country[] newCountries = new Country[countries.length + 1];
+            System.arraycopy(populations, 0, newPopulations, 0, at);
+            System.arraycopy(populations, at, newPopulations, at + 1, populations.length - at);
+            System.arraycopy(countries, 0, newCountries, 0, at);
+            System.arraycopy(countries, at, newCountries, at + 1, countries.length - at);
+            newPopulations[at] = country.population();
+            newCountries[at] = country;
+            return new PopulationIndex(newPopulations, newCountries);
+        }
+
+        /**
+         * Finds the position of the first population greater than the given one, or greater
+         * than or equal to it when {@code after} is false.
+         */
+        int search(long population, boolean after) {
+            int low = 0;
+            int high = populations.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (populations[middle] < population || after && populations[middle] == population) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYPOPULATIONBUFFER.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added replace, keeping flushes out of writes that replace whole countries.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.config.CountryPopulationBufferProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind buffer of population updates. Only the latest population of each country
+ * is kept, and the buffer is written as JDBC batches every flush interval, or at once when
+ * too many countries are pending, so a burst of corrections to the same countries costs one
+ * update per country.
+ * <p>
+ * Pending populations are laid over the countries read by {@link DefaultCountryService},
+ * so clients read their own writes before they reach the database. Writes of whole
+ * countries settle a pending population first, so it never overwrites them later; writes
+ * that only know which countries they replaced once done run through
+ * {@link #replace(Supplier, Function)}, which keeps flushes out while they run.
+ * Everything pending is written when the application shuts down.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryPopulationBufferProperties
+ */
+@Component
+public class CountryPopulationBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(CountryPopulationBuffer.class);
+
+    private final CountryData countryData;
+    private final boolean enabled;
+    private final int maxPending;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    // Flushes take it exclusively; writes replacing whole countries share it.
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public CountryPopulationBuffer(CountryData countryData, CountryPopulationBufferProperties properties) {
+        this.countryData = countryData;
+        this.enabled = properties.enabled();
+        this.maxPending = properties.maxPending();
+    }
+
+    /**
+     * Buffers the new population of a country, replacing any population still pending for it.
+     *
+     * @param id         Indicates the unique identifier of the country.
+     * @param population Indicates the new population.
+     */
+    public void put(Long id, long population) {
+        if (!enabled) {
+            countryData.updatePopulations(Map.of(id, population));
+            return;
+        }
+
+        pending.put(id, population);
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    /**
+     * Lays the pending population, if any, over a country read from the database.
+     *
+     * @param country Uses the {@link Country} as read.
+     * @return The country with its pending population, or the same country if none is pending.
+     */
+    public Country overlay(Country country) {
+        Long population = pending.get(country.id());
+        if (population == null || population.equals(country.population())) {
+            return country;
+        }
+        return new Country(country.id(), country.name(), country.code(), population);
+    }
+
+    /**
+     * Lays the pending populations over countries read from the database.
+     *
+     * @param countries Uses the {@link Country} objects as read.
+     * @return The countries with their pending populations.
+     */
+    public List<Country> overlay(List<Country> countries) {
+        if (pending.isEmpty()) {
+            return countries;
+        }
+        return countries.stream().map(this::overlay).toList();
+    }
+
+    /**
+     * Writes the pending populations of the given countries now, before another write of
+     * them, and waits for a flush in progress to finish.
+     *
+     * @param ids Indicates the unique identifiers of the countries about to be written.
+     */
+    public void settle(Collection<Long> ids) {
+        flushLock.writeLock().lock();
+        try {
+            Map<Long, Long> settled = new HashMap<>();
+            for (Long id : ids) {
+                Long population = id == null ? null : pending.get(id);
+                if (population != null) {
+                    settled.put(id, population);
+                }
+            }
+            if (!settled.isEmpty()) {
+                countryData.updatePopulations(settled);
+                settled.forEach(pending::remove);
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a write replacing countries as a whole with no flush in progress, then drops the
+     * pending populations of the countries it wrote. A flush that copied them before the
+     * write would otherwise lay older populations over the ones just written.
+     *
+     * @param write   Indicates the write to run.
+     * @param written Tells the unique identifiers of the countries written from its result.
+     * @param <T>     The result of the write.
+     * @return The result of the write.
+     */
+    public <T> T replace(Supplier<T> write, Function<T, Collection<Long>> written) {
+        flushLock.readLock().lock();
+        try {
+            T result = write.get();
+            if (!pending.isEmpty()) {
+                written.apply(result).forEach(pending::remove);
+            }
+            return result;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the pending populations of countries that were just written as a whole.
+     *
+     * @param ids Indicates the unique identifiers of the countries written.
+     */
+    public void discard(Collection<Long> ids) {
+        if (!pending.isEmpty()) {
+            flushLock.writeLock().lock();
+            try {
+                ids.forEach(pending::remove);
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes every pending population. A population replaced while being written stays
+     * pending for the next flush. If writing fails, all of them stay pending.
+     */
+    @Scheduled(fixedDelayString = "${country.population-buffer.flush-interval:500ms}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        flushLock.writeLock().lock();
+        try {
+            Map<Long, Long> batch = new HashMap<>(pending);
+            if (batch.isEmpty()) {
+                return;
+            }
+            int updated = countryData.updatePopulations(batch);
+            batch.forEach(pending::remove);
+            logger.debug("Flushed {} buffered populations, {} countries updated", batch.size(), updated);
+        } catch (RuntimeException e) {
+            logger.warn("Flushing {} buffered populations failed, they stay pending", pending.size(), e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes every pending population before the database is closed.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+        if (!pending.isEmpty()) {
+            logger.error("{} buffered populations could not be written on shutdown", pending.size());
+        }
+    }
+}
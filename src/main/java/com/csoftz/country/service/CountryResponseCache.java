@@ -0,0 +1,264 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYRESPONSECACHE.JAVA                                   */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Transcode cached bodies to CBOR on demand.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryResponseCacheProperties;
+import com.csoftz.country.domain.Country;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache of country response bodies already encoded as JSON, so repeated reads of data
+ * that did not change skip serialization and are written to the client as they are.
+ * <p>
+ * Bodies are kept for the whole collection and for single countries, along with their
+ * ETag. Every {@link CountryChangedEvent} drops the body of the changed country and the
+ * collection body, leaving the other countries cached. A body encoded from data read
+ * before such a change is not stored. The CBOR representation of a body is transcoded from
+ * its JSON token by token the first time it is asked for, without binding it back to objects.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryVersionTracker
+ */
+@Component
+public class CountryResponseCache {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    private final ObjectWriter countryWriter;
+    private final ObjectWriter listWriter;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final Map<Long, EncodedBody> countries = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private volatile EncodedBody collection;
+    private volatile long generation;
+
+    public CountryResponseCache(ObjectMapper objectMapper, CountryResponseCacheProperties properties) {
+        this.countryWriter = objectMapper.writerFor(Country.class);
+        this.listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Country.class));
+        this.enabled = properties.enabled();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.maximumSize = properties.maximumSize();
+    }
+
+    /**
+     * Retrieves the current generation, to be passed to {@link #putCollection(long, String, List)}
+     * or {@link #putCountry(long, String, Country)} along with the data read after it.
+     *
+     * @return The current generation.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Retrieves the encoded body of the whole collection.
+     *
+     * @return The {@link EncodedBody}, or null if it has to be encoded first.
+     */
+    public EncodedBody collection() {
+        EncodedBody body = collection;
+        return isFresh(body) ? body : null;
+    }
+
+    /**
+     * Retrieves the encoded body of a country.
+     *
+     * @param id Indicates the unique identifier of the country.
+     * @return The {@link EncodedBody}, or null if it has to be encoded first.
+     */
+    public EncodedBody country(Long id) {
+        EncodedBody body = countries.get(id);
+        return isFresh(body) ? body : null;
+    }
+
+    /**
+     * Encodes the whole collection and keeps it, unless the data changed since the given
+     * generation was read.
+     *
+     * @param expected  Indicates the generation read before the countries were loaded.
+     * @param etag      Indicates the quoted tag of the collection.
+     * @param countries Uses the countries in the order they are returned to clients.
+     * @return The {@link EncodedBody} of the collection.
+     */
+    public EncodedBody putCollection(long expected, String etag, List<Country> countries) {
+        EncodedBody body = new EncodedBody(etag, encode(listWriter, countries), System.nanoTime());
+        if (enabled) {
+            synchronized (lock) {
+                if (generation == expected) {
+                    collection = body;
+                }
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Encodes a country and keeps it, unless the data changed since the given generation
+     * was read.
+     *
+     * @param expected Indicates the generation read before the country was loaded.
+     * @param etag     Indicates the quoted tag of the country.
+     * @param country  Uses the {@link Country} as persisted.
+     * @return The {@link EncodedBody} of the country.
+     */
+    public EncodedBody putCountry(long expected, String etag, Country country) {
+        EncodedBody body = new EncodedBody(etag, encode(countryWriter, country), System.nanoTime());
+        if (enabled) {
+            synchronized (lock) {
+                if (generation == expected && (countries.size() < maximumSize || countries.containsKey(country.id()))) {
+                    countries.put(country.id(), body);
+                }
+            }
+        }
+        return body;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryChanged(CountryChangedEvent event) {
+        synchronized (lock) {
+            generation++;
+            collection = null;
+            countries.remove(event.id());
+        }
+    }
+
+    private boolean isFresh(EncodedBody body) {
+        return body != null && System.nanoTime() - body.encodedAt < ttlNanos;
+    }
+
+    private static byte[] encode(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Encoding countries failed", e);
+        }
+    }
+
+    /**
+     * A response body encoded once, with its gzip encoding and CBOR representation computed
+     * the first time they are asked for.
+     */
+    public static final class EncodedBody {
+        private final String etag;
+        private final byte[] body;
+        private final long encodedAt;
+        private volatile byte[] gzipped;
+        private volatile EncodedBody cbor;
+
+        EncodedBody(String etag, byte[] body, long encodedAt) {
+            this.etag = etag;
+            this.body = body;
+            this.encodedAt = encodedAt;
+        }
+
+        /**
+         * Retrieves the tag of the body in an encoding. The gzip encoding gets its own tag,
+         * since its bytes differ.
+         *
+         * @param gzip Indicates whether the gzip encoding is wanted.
+         * @return The quoted tag.
+         */
+        public String etag(boolean gzip) {
+            return gzip ? gzipEtag(etag) : etag;
+        }
+
+        /**
+         * Retrieves the body in an encoding. The returned array must not be modified.
+         *
+         * @param gzip Indicates whether the gzip encoding is wanted.
+         * @return The encoded bytes.
+         */
+        public byte[] bytes(boolean gzip) {
+            if (!gzip) {
+                return body;
+            }
+            byte[] compressed = gzipped;
+            if (compressed == null) {
+                compressed = gzip(body);
+                gzipped = compressed;
+            }
+            return compressed;
+        }
+
+        /**
+         * Retrieves the same body represented as CBOR instead of JSON, with its own tag.
+         *
+         * @return The {@link EncodedBody} of the CBOR representation.
+         */
+        public EncodedBody cbor() {
+            EncodedBody transcoded = cbor;
+            if (transcoded == null) {
+                transcoded = new EncodedBody(cborEtag(etag), transcode(body), encodedAt);
+                cbor = transcoded;
+            }
+            return transcoded;
+        }
+
+        private static byte[] transcode(byte[] json) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+            try (JsonParser parser = JSON_FACTORY.createParser(json);
+                 JsonGenerator generator = CBOR_FACTORY.createGenerator(out)) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Derives the tag of the gzip encoding of a body from the tag of the body.
+     *
+     * @param etag Indicates the quoted tag of the body.
+     * @return The quoted tag of its gzip encoding.
+     */
+    public static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Derives the tag of the CBOR representation of a body from the tag of its JSON.
+     *
+     * @param etag Indicates the quoted tag of the JSON body.
+     * @return The quoted tag of its CBOR representation.
+     */
+    public static String cborEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-cbor\"";
+    }
+}
@@ -5,12 +5,26 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Added streamAll.
+ Oct.17/2026  COQ  Added keyset paginated findPage.
+ Oct.17/2026  COQ  Added saveAll.
+ Oct.17/2026  COQ  Added conditional update and delete.
+ Oct.17/2026  COQ  Update and delete report whether the country existed; added upsertByCode.
+ Oct.17/2026  COQ  Added findByCode and findByPopulationBetween.
+ Oct.17/2026  COQ  Added findAllById.
+ Oct.17/2026  COQ  Added buffered updatePopulation.
+ Oct.17/2026  COQ  save reports an identifier that does not exist.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country.service;
 
 import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryLookupResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing Country entities.
@@ -40,29 +54,137 @@ public interface CountryService {
     Optional<Country> findById(Long id);
 
     /**
-     * Persists a new country record in the system.
+     * Finds many countries by their unique identifiers at once.
+     *
+     * @param ids Identifies the countries to find; a repeated identifier is answered once.
+     * @return A {@link CountryLookupResult} with the countries found in request order and the
+     * identifiers that do not exist.
+     * @see CountryLookupResult
+     */
+    CountryLookupResult findAllById(List<Long> ids);
+
+    /**
+     * Sets the population of an existing country. The update is buffered and written to
+     * the database shortly after, but it is visible to every read at once.
+     *
+     * @param id         Identifies the country to update.
+     * @param population Indicates the new population.
+     * @return An {@link Optional} containing the country with its new population, or empty
+     * if the country does not exist.
+     * @see Country
+     */
+    Optional<Country> updatePopulation(Long id, long population);
+
+    /**
+     * Finds a country by its natural identifier. The code is matched without surrounding
+     * blanks and regardless of case.
+     *
+     * @param code Identifies the code of the country to find.
+     * @return An {@link Optional} containing the found country, or empty if not found.
+     * @see Country
+     */
+    Optional<Country> findByCode(String code);
+
+    /**
+     * Retrieves the countries whose population lies in a range, ordered by population
+     * and then by identifier.
+     *
+     * @param minPopulation Indicates the minimum population (inclusive), or null for no lower bound.
+     * @param maxPopulation Indicates the maximum population (inclusive), or null for no upper bound.
+     * @return A list of the matching {@link Country} objects, or an empty list if none match.
+     * @see Country
+     */
+    List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation);
+
+    /**
+     * Retrieves one page of countries matching the query using keyset pagination.
+     *
+     * @param query Uses the filters, order, size and cursor of the page.
+     * @return A {@link CountryPage} with the matching countries and the cursor of the next page.
+     * @see CountryQuery
+     * @see CountryPage
+     */
+    CountryPage findPage(CountryQuery query);
+
+    /**
+     * Passes every country stored in the system to the given action as it is read,
+     * without collecting them into a list first.
+     *
+     * @param action Uses the callback receiving each {@link Country}.
+     * @see Country
+     */
+    void streamAll(Consumer<Country> action);
+
+    /**
+     * Persists a new country record in the system, or updates the existing one if the
+     * country carries an identifier.
      *
      * @param country Uses the {@link Country} entity to be saved.
-     * @return The saved {@link Country} instance with its identifier and persisted details.
+     * @return An {@link Optional} containing the saved {@link Country} instance with its identifier
+     * and persisted details, or empty if the country carries an identifier no country has.
      * @see Country
      */
-    Country save(Country country);
+    Optional<Country> save(Country country);
+
+    /**
+     * Persists many country records at once within a single transaction, creating the ones
+     * without an identifier and updating the others.
+     * <p>
+     * Every country is validated before anything is written. Invalid countries and the
+     * ones the database rejects are reported per item without aborting the rest.
+     *
+     * @param countries Uses the {@link Country} entities to be saved.
+     * @return A {@link CountryBatchResult} with the assigned identifier or error of every country.
+     * @see CountryBatchResult
+     */
+    CountryBatchResult saveAll(List<Country> countries);
 
     /**
      * Updates an existing country record with new information.
      *
      * @param id      Indicates the unique identifier of the {@link Country} to update.
-     * @param country Uses the {@link Country} entity to be updated.
-     * @return The updated {@link Country} instance with its identifier and persisted details.
+     * @param country Uses the {@link Country} entity to be updated. Its own identifier is ignored.
+     * @return An {@link Optional} containing the updated {@link Country} instance with its identifier
+     * and persisted details, or empty if no country has that identifier.
+     * @see Country
+     */
+    Optional<Country> update(Long id, Country country);
+
+    /**
+     * Creates or updates the country record with the same code, so repeating the call
+     * leaves the system in the same state.
+     *
+     * @param country Uses the {@link Country} entity to be stored. Its identifier is ignored.
+     * @return The stored {@link Country} instance with its identifier and persisted details.
      * @see Country
      */
-    Country update(Long id, Country country);
+    Country upsertByCode(Country country);
 
     /**
      * Removes a country record from the system.
      *
      * @param id Indicates the unique identifier of the {@link Country} to be deleted.
+     * @return true if the country was deleted, false if no country has that identifier.
+     * @see Country
+     */
+    boolean deleteById(Long id);
+
+    /**
+     * Updates an existing country record only if it still holds the values it was read with.
+     *
+     * @param expected Uses the {@link Country} as it was read before the update.
+     * @param country  Uses the {@link Country} with the new values, with the same identifier.
+     * @return true if the country was updated, false if it changed or no longer exists.
+     * @see Country
+     */
+    boolean updateIfUnchanged(Country expected, Country country);
+
+    /**
+     * Removes a country record only if it still holds the values it was read with.
+     *
+     * @param expected Uses the {@link Country} as it was read before the deletion.
+     * @return true if the country was deleted, false if it changed or no longer exists.
      * @see Country
      */
-    void deleteById(Long id);
+    boolean deleteIfUnchanged(Country expected);
 }
@@ -0,0 +1,198 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTATSTRACKER.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryStatsProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryStats;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps aggregate statistics of the country table up to date as countries change, so they
+ * are answered without reading the table.
+ * <p>
+ * The aggregates are loaded with one pass over the table when the application is ready and
+ * then adjusted from {@link CountryChangedEvent}, using the previous values of a changed
+ * country to take it out first. Countries are kept ordered by population for the top and
+ * the bounds, and populations are counted in a {@link PopulationHistogram} for the
+ * percentiles. The {@link CountryStats} handed out are computed once per change.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryStats
+ * @see CountryChangedEvent
+ */
+@Component
+public class CountryStatsTracker {
+    private static final Logger logger = LoggerFactory.getLogger(CountryStatsTracker.class);
+    private static final Comparator<Country> LARGEST_FIRST =
+        Comparator.comparing(Country::population).reversed().thenComparing(Country::id);
+
+    private final CountryData countryData;
+    private final boolean enabled;
+    private final int topSize;
+    private final Map<String, Double> percentiles = new LinkedHashMap<>();
+    private final Map<Long, Country> countries = new HashMap<>();
+    private final TreeSet<Country> byPopulation = new TreeSet<>(LARGEST_FIRST);
+    private final PopulationHistogram histogram = new PopulationHistogram();
+    private final Object lock = new Object();
+    private long totalPopulation;
+    private List<CountryChangedEvent> pending;
+    private boolean ready;
+    private volatile CountryStats stats;
+
+    public CountryStatsTracker(CountryData countryData, CountryStatsProperties properties) {
+        this.countryData = countryData;
+        this.enabled = properties.enabled();
+        this.topSize = properties.topSize();
+        for (Double quantile : properties.percentiles()) {
+            String name = "p" + BigDecimal.valueOf(quantile).movePointRight(2).stripTrailingZeros().toPlainString();
+            percentiles.put(name, quantile);
+        }
+    }
+
+    /**
+     * Tells whether the statistics are kept at all.
+     *
+     * @return true if the statistics are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves the current statistics.
+     *
+     * @return An {@link Optional} containing the {@link CountryStats}, or empty while they are
+     * still being loaded or when they are disabled.
+     */
+    public Optional<CountryStats> stats() {
+        CountryStats current = stats;
+        if (current != null) {
+            return Optional.of(current);
+        }
+
+        synchronized (lock) {
+            if (!ready) {
+                return Optional.empty();
+            }
+            if (stats == null) {
+                stats = compute();
+            }
+            return Optional.of(stats);
+        }
+    }
+
+    /**
+     * Loads the statistics from every country stored, replacing the current ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        List<Country> loaded = new ArrayList<>();
+        try {
+            countryData.streamAll(loaded::add);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            countries.clear();
+            byPopulation.clear();
+            histogram.clear();
+            totalPopulation = 0;
+            loaded.forEach(this::add);
+            pending.forEach(this::apply);
+            pending = null;
+            ready = true;
+            stats = null;
+        }
+        logger.info("Loaded statistics of {} countries", loaded.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryChanged(CountryChangedEvent event) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(event);
+            }
+            if (ready) {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(CountryChangedEvent event) {
+        if (event.type() == CountryChangedEvent.Type.SAVED) {
+            add(event.country());
+        } else {
+            remove(countries.remove(event.id()));
+        }
+        stats = null;
+    }
+
+    private void add(Country country) {
+        remove(countries.put(country.id(), country));
+        if (country.population() != null) {
+            byPopulation.add(country);
+            histogram.add(country.population());
+            totalPopulation += country.population();
+        }
+    }
+
+    private void remove(Country previous) {
+        if (previous != null && previous.population() != null) {
+            byPopulation.remove(previous);
+            histogram.remove(previous.population());
+            totalPopulation -= previous.population();
+        }
+    }
+
+    private CountryStats compute() {
+        if (byPopulation.isEmpty()) {
+            return new CountryStats(countries.size(), 0, null, null, List.of(), Map.of());
+        }
+
+        long min = byPopulation.last().population();
+        long max = byPopulation.first().population();
+        List<Country> top = new ArrayList<>(topSize);
+        Iterator<Country> largest = byPopulation.iterator();
+        while (top.size() < topSize && largest.hasNext()) {
+            top.add(largest.next());
+        }
+        Map<String, Long> values = new LinkedHashMap<>();
+        percentiles.forEach((name, quantile) -> values.put(name, Math.clamp(histogram.valueAt(quantile), min, max)));
+        return new CountryStats(countries.size(), totalPopulation, min, max, List.copyOf(top), values);
+    }
+}
@@ -0,0 +1,189 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYVERSIONTRACKER.JAVA                                  */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Tags computed by readers are only remembered if no change happened meanwhile.
+ Oct.17/2026  COQ  Remembered tags expire on the data cache time to live.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryCacheProperties;
+import com.csoftz.country.domain.Country;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps strong entity tags (ETags) for single countries and for the whole collection,
+ * derived from a hash of their content.
+ * <p>
+ * Tags are remembered once computed and kept up to date from {@link CountryChangedEvent},
+ * so a conditional request can be answered without reading the database. Every change
+ * increases a version, and a tag computed from countries read before a change is never
+ * remembered, so a slow reader cannot replace the tag a concurrent write just set.
+ * <p>
+ * Events only report local changes, so a remembered tag is forgotten after the time to live
+ * of the data cache, as the cached rows are: a change made by another instance or outside
+ * the application answers conditional requests at most that late. With the cache off, tags
+ * are not remembered at all.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryChangedEvent
+ */
+@Component
+public class CountryVersionTracker {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<Long, KnownTag> etags = new ConcurrentHashMap<>();
+    private final AtomicLong collectionVersion = new AtomicLong();
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private volatile CollectionTag collectionTag;
+
+    @Autowired
+    public CountryVersionTracker(CountryCacheProperties cacheProperties) {
+        this(cacheProperties.enabled() ? cacheProperties.ttl() : Duration.ZERO, System::nanoTime);
+    }
+
+    CountryVersionTracker(Duration ttl, LongSupplier nanoTime) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Retrieves the tag of a country, if it is currently known.
+     *
+     * @param id Indicates the unique identifier of the country.
+     * @return The quoted tag, or null if it has to be computed from the country first.
+     */
+    public String knownEtag(Long id) {
+        KnownTag tag = etags.get(id);
+        if (tag == null) {
+            return null;
+        }
+        if (nanoTime.getAsLong() - tag.expiresAt() >= 0) {
+            etags.remove(id, tag);
+            return null;
+        }
+        return tag.etag();
+    }
+
+    /**
+     * Computes the tag of a country, without remembering it.
+     *
+     * @param country Uses the {@link Country} as persisted.
+     * @return The quoted tag.
+     */
+    public String etag(Country country) {
+        return format(hash(FNV_OFFSET_BASIS, country));
+    }
+
+    /**
+     * Computes the tag of a country and remembers it, unless a country changed since the
+     * given version was read.
+     *
+     * @param version Indicates the version read before the country was loaded.
+     * @param country Uses the {@link Country} as persisted.
+     * @return The quoted tag.
+     */
+    public String etag(long version, Country country) {
+        String etag = etag(country);
+        // Checked under the lock of the entry, so a change after the check replaces the tag afterward.
+        etags.compute(country.id(), (id, known) -> collectionVersion.get() == version ? remember(etag) : known);
+        return etag;
+    }
+
+    /**
+     * Retrieves the current version, to be passed to {@link #etag(long, Country)} or
+     * {@link #collectionEtag(long, List)} along with the countries read after it.
+     *
+     * @return The current version.
+     */
+    public long collectionVersion() {
+        return collectionVersion.get();
+    }
+
+    /**
+     * Retrieves the tag of the whole collection, if it is known for the current version.
+     *
+     * @return The quoted tag, or null if it has to be computed from the countries first.
+     */
+    public String knownCollectionEtag() {
+        CollectionTag tag = collectionTag;
+        return tag != null && tag.version() == collectionVersion.get() && nanoTime.getAsLong() - tag.expiresAt() < 0
+            ? tag.etag()
+            : null;
+    }
+
+    /**
+     * Computes the tag of the whole collection and remembers it, unless the collection
+     * changed since the given version was read.
+     *
+     * @param version   Indicates the version read before the countries were loaded.
+     * @param countries Uses the countries in the order they are returned to clients.
+     * @return The quoted tag.
+     */
+    public String collectionEtag(long version, List<Country> countries) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Country country : countries) {
+            hash = hash(hash, country);
+        }
+        String etag = format(hash);
+        if (collectionVersion.get() == version) {
+            collectionTag = new CollectionTag(version, etag, nanoTime.getAsLong() + ttlNanos);
+        }
+        return etag;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryChanged(CountryChangedEvent event) {
+        collectionVersion.incrementAndGet();
+        switch (event.type()) {
+            case SAVED -> etags.put(event.id(), remember(etag(event.country())));
+            case DELETED -> etags.remove(event.id());
+        }
+    }
+
+    private KnownTag remember(String etag) {
+        return new KnownTag(etag, nanoTime.getAsLong() + ttlNanos);
+    }
+
+    // 64-bit FNV-1a over the fields, each one terminated so that shifting characters between them changes the hash.
+    private static long hash(long hash, Country country) {
+        hash = hash(hash, String.valueOf(country.id()));
+        hash = hash(hash, country.name());
+        hash = hash(hash, country.code());
+        return hash(hash, String.valueOf(country.population()));
+    }
+
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+        }
+        return (hash ^ 0x1f) * FNV_PRIME;
+    }
+
+    private static String format(long hash) {
+        return "\"" + String.format("%016x", hash) + "\"";
+    }
+
+    private record KnownTag(String etag, long expiresAt) {
+    }
+
+    private record CollectionTag(long version, String etag, long expiresAt) {
+    }
+}
@@ -0,0 +1,49 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYVIOLATIONS.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.domain.Country;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Describes why a {@link Country} received in bulk is not valid, so it can be reported
+ * next to the ones that were written.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class CountryViolations {
+
+    private CountryViolations() {
+    }
+
+    /**
+     * Validates a country against its constraints.
+     *
+     * @param validator Uses the validator checking the constraints.
+     * @param country   Indicates the country to check.
+     * @return The violated constraint messages joined in a stable order, or null if the country is valid.
+     */
+    static String describe(Validator validator, Country country) {
+        if (country == null) {
+            return "Country is required";
+        }
+
+        Set<ConstraintViolation<Country>> violations = validator.validate(country);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+}
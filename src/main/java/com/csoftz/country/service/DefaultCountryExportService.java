@@ -0,0 +1,264 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEFAULTCOUNTRYEXPORTSERVICE.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Snapshots are rendered into a directory of this instance, removed on shutdown.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.common.json.CountryStreamWriter;
+import com.csoftz.country.config.CountryExportProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.CountryExportFile;
+import com.csoftz.country.domain.CountryExportFormat;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Default implementation of the {@link CountryExportService} interface.
+ * <p>
+ * A single pass over the table renders the JSON and NDJSON files, which are then gzipped
+ * next to them. Every file is written under a temporary name and moved into place, named
+ * after a hash of the content, so readers never see a partial file. The files of the
+ * previous snapshot are kept until the next one replaces them, so downloads already
+ * under way can finish.
+ * <p>
+ * Each instance renders into a directory of its own under the configured one, created on
+ * the first rendering and removed on shutdown, so instances sharing a host never sweep
+ * each other's snapshots.
+ * <p>
+ * Snapshots are rendered again shortly after a {@link CountryChangedEvent}, coalescing
+ * bursts of writes, and on a fixed interval.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryExportProperties
+ */
+@Service
+public class DefaultCountryExportService implements CountryExportService {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultCountryExportService.class);
+    private static final String PREFIX = "countries-";
+    private static final String INSTANCE_PREFIX = "instance-";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CountryData countryData;
+    private final CountryStreamWriter countryStreamWriter;
+    private final TaskScheduler taskScheduler;
+    private final CountryExportProperties exportProperties;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final Object lock = new Object();
+    private volatile Snapshot current;
+    private Snapshot previous;
+    private Path directory;
+
+    public DefaultCountryExportService(CountryData countryData,
+                                       CountryStreamWriter countryStreamWriter,
+                                       TaskScheduler taskScheduler,
+                                       CountryExportProperties exportProperties) {
+        this.countryData = countryData;
+        this.countryStreamWriter = countryStreamWriter;
+        this.taskScheduler = taskScheduler;
+        this.exportProperties = exportProperties;
+    }
+
+    @Override
+    public CountryExportFile current(CountryExportFormat format, boolean gzipped) {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (lock) {
+                if (current == null) {
+                    render();
+                }
+                snapshot = current;
+            }
+        }
+        return snapshot.file(format, gzipped);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${country.export.refresh-interval:15m}",
+        fixedDelayString = "${country.export.refresh-interval:15m}")
+    public void refresh() {
+        synchronized (lock) {
+            render();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountryChanged(CountryChangedEvent event) {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                refreshScheduled.set(false);
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    logger.warn("Rendering the country export after a change failed", e);
+                }
+            }, Instant.now().plus(exportProperties.debounce()));
+        }
+    }
+
+    /**
+     * Deletes the snapshot files of this instance and its directory.
+     */
+    @PreDestroy
+    public void close() {
+        synchronized (lock) {
+            if (directory == null) {
+                return;
+            }
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                files.forEach(DefaultCountryExportService::deleteQuietly);
+            } catch (IOException e) {
+                logger.debug("Could not list {}: {}", directory, e.getMessage());
+            }
+            deleteQuietly(directory);
+        }
+    }
+
+    private void render() {
+        List<Path> temporary = List.of();
+        try {
+            if (directory == null) {
+                Files.createDirectories(exportProperties.directory());
+                directory = Files.createTempDirectory(exportProperties.directory(), INSTANCE_PREFIX);
+            }
+            Path json = Files.createTempFile(directory, PREFIX, ".tmp");
+            Path ndjson = Files.createTempFile(directory, PREFIX, ".tmp");
+            Path jsonGzip = Files.createTempFile(directory, PREFIX, ".tmp");
+            Path ndjsonGzip = Files.createTempFile(directory, PREFIX, ".tmp");
+            temporary = List.of(json, ndjson, jsonGzip, ndjsonGzip);
+
+            try (OutputStream jsonOut = new BufferedOutputStream(Files.newOutputStream(json), BUFFER_SIZE);
+                 OutputStream ndjsonOut = new BufferedOutputStream(Files.newOutputStream(ndjson), BUFFER_SIZE)) {
+                countryStreamWriter.writeJsonArray(jsonOut, toJson -> {
+                    try {
+                        countryStreamWriter.writeNdjson(ndjsonOut, toNdjson -> countryData.streamAll(country -> {
+                            toJson.accept(country);
+                            toNdjson.accept(country);
+                        }));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            String hash = gzip(json, jsonGzip);
+            gzip(ndjson, ndjsonGzip);
+
+            Snapshot snapshot = current;
+            if (snapshot != null && snapshot.hash().equals(hash)) {
+                logger.debug("Country export unchanged: {}", hash);
+                return;
+            }
+
+            Map<String, CountryExportFile> files = new HashMap<>();
+            publish(files, json, hash, CountryExportFormat.JSON, false);
+            publish(files, jsonGzip, hash, CountryExportFormat.JSON, true);
+            publish(files, ndjson, hash, CountryExportFormat.NDJSON, false);
+            publish(files, ndjsonGzip, hash, CountryExportFormat.NDJSON, true);
+            previous = snapshot;
+            current = new Snapshot(hash, files);
+            logger.debug("Country export rendered: {}", hash);
+
+            sweep();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Rendering the country export failed", e);
+        } finally {
+            temporary.forEach(DefaultCountryExportService::deleteQuietly);
+        }
+    }
+
+    // Compresses the file and returns a hash of its uncompressed content.
+    private static String gzip(Path source, Path target) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(source), digest);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), BUFFER_SIZE)) {
+            in.transferTo(out);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    private void publish(Map<String, CountryExportFile> files, Path temporary, String hash,
+                         CountryExportFormat format, boolean gzipped) throws IOException {
+        String name = Snapshot.key(format, gzipped);
+        Path path = directory.resolve(PREFIX + hash + "." + name);
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        String etag = "\"" + hash + "-" + name.replace('.', '-') + "\"";
+        files.put(name, new CountryExportFile(path, Files.size(path), etag, format, gzipped));
+    }
+
+    // Deletes the files of older snapshots and of failed renderings.
+    private void sweep() throws IOException {
+        Set<Path> kept = new HashSet<>(current.paths());
+        if (previous != null) {
+            kept.addAll(previous.paths());
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            for (Path file : files) {
+                if (!kept.contains(file)) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * The files of one rendering, by representation.
+     */
+    private record Snapshot(String hash, Map<String, CountryExportFile> files) {
+
+        static String key(CountryExportFormat format, boolean gzipped) {
+            return gzipped ? format.extension() + ".gz" : format.extension();
+        }
+
+        CountryExportFile file(CountryExportFormat format, boolean gzipped) {
+            return files.get(key(format, gzipped));
+        }
+
+        List<Path> paths() {
+            return files.values().stream().map(CountryExportFile::path).toList();
+        }
+    }
+}
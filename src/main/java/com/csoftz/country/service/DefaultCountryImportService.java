@@ -0,0 +1,177 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEFAULTCOUNTRYIMPORTSERVICE.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Imported countries drop their buffered populations.
+ Oct.17/2026  COQ  Chunks keep population flushes out of their write.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.common.feed.CountryFeedReader;
+import com.csoftz.country.common.feed.CountryFeedRecord;
+import com.csoftz.country.config.CountryImportProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryImportError;
+import com.csoftz.country.domain.CountryImportResult;
+import com.csoftz.country.domain.CountryUpsertResult;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Default implementation of the {@link CountryImportService} interface.
+ * <p>
+ * The calling thread parses and validates the feed while a writer task upserts the
+ * valid countries chunk by chunk. The two are joined by a bounded queue: once it is full
+ * parsing waits for the database, so memory stays the same whatever the size of the feed.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ * @see CountryData#upsertAllByCode(List)
+ */
+@Service
+public class DefaultCountryImportService implements CountryImportService {
+    private static final Logger logger = LoggerFactory.getLogger(DefaultCountryImportService.class);
+    private static final List<Country> END = List.of();
+
+    private final CountryData countryData;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AsyncTaskExecutor executor;
+    private final CountryImportProperties importProperties;
+    private final CountryPopulationBuffer populationBuffer;
+
+    public DefaultCountryImportService(CountryData countryData,
+                                       Validator validator,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+                                       CountryImportProperties importProperties,
+                                       CountryPopulationBuffer populationBuffer) {
+        this.countryData = countryData;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.importProperties = importProperties;
+        this.populationBuffer = populationBuffer;
+    }
+
+    @Override
+    public CountryImportResult importCountries(CountryFeedReader reader) throws IOException {
+        BlockingQueue<List<Country>> chunks = new ArrayBlockingQueue<>(importProperties.queueCapacity());
+        Writer writer = new Writer(chunks);
+        Future<Void> writing = executor.submit(writer);
+
+        long rejected = 0;
+        List<CountryImportError> errors = new ArrayList<>();
+        try {
+            List<Country> chunk = new ArrayList<>(importProperties.chunkSize());
+            CountryFeedRecord record;
+            while ((record = reader.read()) != null) {
+                String error = record.error() != null ? record.error() : CountryViolations.describe(validator, record.country());
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < importProperties.maxReportedErrors()) {
+                        errors.add(new CountryImportError(record.line(), error));
+                    }
+                    continue;
+                }
+
+                chunk.add(record.country());
+                if (chunk.size() == importProperties.chunkSize()) {
+                    send(chunks, chunk, writing);
+                    chunk = new ArrayList<>(importProperties.chunkSize());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                send(chunks, chunk, writing);
+            }
+            send(chunks, END, writing);
+        } catch (IOException | RuntimeException e) {
+            // Stop the writer after the chunk in progress and report the parsing failure.
+            chunks.clear();
+            chunks.offer(END);
+            await(writing);
+            throw e;
+        }
+
+        await(writing);
+        logger.debug("Imported countries: {} inserted, {} updated, {} rejected", writer.inserted, writer.updated, rejected);
+        return new CountryImportResult(writer.inserted, writer.updated, rejected, errors);
+    }
+
+    private static void send(BlockingQueue<List<Country>> chunks, List<Country> chunk, Future<Void> writing) {
+        try {
+            while (!chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (writing.isDone()) {
+                    await(writing);
+                    throw new IllegalStateException("The import writer stopped early");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writing.cancel(true);
+            throw new IllegalStateException("Interrupted while importing countries", e);
+        }
+    }
+
+    private static void await(Future<Void> writing) {
+        try {
+            writing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writing.cancel(true);
+            throw new IllegalStateException("Interrupted while importing countries", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Importing countries failed", e.getCause());
+        }
+    }
+
+    /**
+     * Upserts the queued chunks until the end marker arrives. Its counters are read only
+     * after the task completes.
+     */
+    private final class Writer implements Callable<Void> {
+        private final BlockingQueue<List<Country>> chunks;
+        private long inserted;
+        private long updated;
+
+        Writer(BlockingQueue<List<Country>> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public Void call() throws InterruptedException {
+            List<Country> chunk;
+            while ((chunk = chunks.take()) != END) {
+                List<Country> written = chunk;
+                CountryUpsertResult result = populationBuffer.replace(() -> countryData.upsertAllByCode(written),
+                    upserted -> upserted.updated().stream().map(Country::id).toList());
+                inserted += result.inserted().size();
+                updated += chunk.size() - result.inserted().size();
+                result.inserted().forEach(country -> eventPublisher.publishEvent(CountryChangedEvent.saved(country)));
+                result.updated().forEach(country -> eventPublisher.publishEvent(CountryChangedEvent.saved(country)));
+            }
+            return null;
+        }
+    }
+}
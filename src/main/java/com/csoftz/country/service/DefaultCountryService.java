@@ -5,23 +5,54 @@
 /*-----------------------------------------------------------------------------
  History
  Apr.19/2025  COQ  File created.
+ Oct.17/2026  COQ  Added streamAll.
+ Oct.17/2026  COQ  Added keyset paginated findPage.
+ Oct.17/2026  COQ  Added saveAll validating every country first.
+ Oct.17/2026  COQ  Publish CountryChangedEvent on writes and added conditional update and delete.
+ Oct.17/2026  COQ  Update honours its id argument; update and delete are single statements; added upsertByCode.
+ Oct.17/2026  COQ  Validation messages shared with the import.
+ Oct.17/2026  COQ  Lookups by code and population range served by the in-memory index.
+ Oct.17/2026  COQ  Added findAllById answering in request order.
+ Oct.17/2026  COQ  Population updates buffered; pending ones laid over reads and settled before other writes.
+ Oct.17/2026  COQ  save goes through update for a country with an identifier, so unknown ones are reported.
+ Oct.17/2026  COQ  upsertByCode keeps population flushes out of its write.
  -----------------------------------------------------------------------------*/
 package com.csoftz.country.service;
 
+import com.csoftz.country.common.event.CountryChangedEvent;
 import com.csoftz.country.data.CountryData;
 import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchItem;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryLookupResult;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Default implementation of the {@link CountryService} interface responsible for core
  * operations related to managing {@link Country} entities.
  * <p>
  * This service uses {@link CountryData} for data access operations and performs
- * necessary business logic.
+ * necessary business logic. Every successful write publishes a {@link CountryChangedEvent}.
+ * Lookups by code and population range are answered by the {@link CountryIndex} once it
+ * is loaded, and by the database otherwise. Population updates go through the
+ * {@link CountryPopulationBuffer}, whose pending values are laid over every read.
  *
  * @author COQ - Carlos Adolfo Ortiz Q.
  * @see Country
@@ -33,43 +64,209 @@ public class DefaultCountryService implements CountryService {
     private static final Logger logger = LoggerFactory.getLogger(DefaultCountryService.class);
 
     private final CountryData countryData;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountryIndex countryIndex;
+    private final CountryPopulationBuffer populationBuffer;
 
-    public DefaultCountryService(CountryData countryData) {
+    public DefaultCountryService(CountryData countryData,
+                                 Validator validator,
+                                 ApplicationEventPublisher eventPublisher,
+                                 CountryIndex countryIndex,
+                                 CountryPopulationBuffer populationBuffer) {
         this.countryData = countryData;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.countryIndex = countryIndex;
+        this.populationBuffer = populationBuffer;
     }
 
     @Override
     public List<Country> findAll() {
         logger.debug("Fetching all countries");
 
-        return countryData.findAll();
+        return populationBuffer.overlay(countryData.findAll());
     }
 
     @Override
     public Optional<Country> findById(Long id) {
         logger.debug("Fetching country with id: {}", id);
 
-        return countryData.findById(id);
+        return countryData.findById(id).map(populationBuffer::overlay);
     }
 
     @Override
-    public Country save(Country country) {
+    public CountryLookupResult findAllById(List<Long> ids) {
+        logger.debug("Fetching {} countries by id", ids.size());
+
+        Map<Long, Country> found = populationBuffer.overlay(countryData.findAllById(ids)).stream()
+            .collect(Collectors.toMap(Country::id, Function.identity()));
+        List<Country> countries = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Country country = found.get(id);
+            if (country != null) {
+                countries.add(country);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new CountryLookupResult(countries, missing);
+    }
+
+    @Override
+    public Optional<Country> findByCode(String code) {
+        logger.debug("Fetching country with code: {}", code);
+
+        String normalized = CountryIndex.normalize(code);
+        if (countryIndex.isReady()) {
+            return countryIndex.findByCode(normalized);
+        }
+        return countryData.findByCode(normalized).map(populationBuffer::overlay);
+    }
+
+    @Override
+    public List<Country> findByPopulationBetween(Long minPopulation, Long maxPopulation) {
+        logger.debug("Fetching countries with population between: {} and {}", minPopulation, maxPopulation);
+
+        if (countryIndex.isReady()) {
+            return countryIndex.findByPopulationBetween(minPopulation, maxPopulation);
+        }
+        return populationBuffer.overlay(countryData.findByPopulationBetween(minPopulation, maxPopulation));
+    }
+
+    @Override
+    public CountryPage findPage(CountryQuery query) {
+        logger.debug("Fetching country page: {}", query);
+
+        CountryPage page = countryData.findPage(query);
+        return new CountryPage(populationBuffer.overlay(page.items()), page.next());
+    }
+
+    @Override
+    public void streamAll(Consumer<Country> action) {
+        logger.debug("Streaming all countries");
+
+        countryData.streamAll(country -> action.accept(populationBuffer.overlay(country)));
+    }
+
+    @Override
+    public Optional<Country> updatePopulation(Long id, long population) {
+        logger.debug("Updating population of country with id: {} to: {}", id, population);
+
+        Optional<Country> current = findById(id);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        Country updated = new Country(id, current.get().name(), current.get().code(), population);
+        populationBuffer.put(id, population);
+        eventPublisher.publishEvent(CountryChangedEvent.saved(updated));
+        return Optional.of(updated);
+    }
+
+    @Override
+    public Optional<Country> save(Country country) {
         logger.debug("Saving country: {}", country);
 
-        return countryData.save(country);
+        if (country.id() != null) {
+            return update(country.id(), country);
+        }
+        Country saved = countryData.save(country);
+        eventPublisher.publishEvent(CountryChangedEvent.saved(saved));
+        return Optional.of(saved);
     }
 
     @Override
-    public Country update(Long id, Country country) {
+    @Transactional
+    public CountryBatchResult saveAll(List<Country> countries) {
+        logger.debug("Saving batch of {} countries", countries.size());
+
+        CountryBatchItem[] items = new CountryBatchItem[countries.size()];
+        List<Country> valid = new ArrayList<>(countries.size());
+        List<Integer> validIndexes = new ArrayList<>(countries.size());
+        for (int i = 0; i < countries.size(); i++) {
+            Country country = countries.get(i);
+            String error = CountryViolations.describe(validator, country);
+            if (error != null) {
+                items[i] = CountryBatchItem.failed(i, error);
+            } else {
+                valid.add(country);
+                validIndexes.add(i);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            populationBuffer.settle(valid.stream().map(Country::id).filter(Objects::nonNull).toList());
+            for (CountryBatchItem item : countryData.saveAll(valid).items()) {
+                int index = validIndexes.get(item.index());
+                items[index] = new CountryBatchItem(index, item.id(), item.error());
+                if (item.isSaved()) {
+                    Country country = valid.get(item.index());
+                    eventPublisher.publishEvent(CountryChangedEvent.saved(
+                        new Country(item.id(), country.name(), country.code(), country.population())));
+                }
+            }
+        }
+
+        return CountryBatchResult.of(Arrays.asList(items));
+    }
+
+    @Override
+    public Optional<Country> update(Long id, Country country) {
         logger.debug("Updating country with id: {} with data: {}", id, country);
 
-        return countryData.save(country);
+        Country updated = new Country(id, country.name(), country.code(), country.population());
+        populationBuffer.settle(List.of(id));
+        if (countryData.update(updated) == 0) {
+            return Optional.empty();
+        }
+        eventPublisher.publishEvent(CountryChangedEvent.saved(updated));
+        return Optional.of(updated);
     }
 
     @Override
-    public void deleteById(Long id) {
+    public Country upsertByCode(Country country) {
+        logger.debug("Upserting country by code: {}", country);
+
+        List<Country> stored = populationBuffer.replace(() -> countryData.upsertByCode(country),
+            written -> written.stream().map(Country::id).toList());
+        stored.forEach(saved -> eventPublisher.publishEvent(CountryChangedEvent.saved(saved)));
+        return stored.getFirst();
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
         logger.debug("Deleting country with id: {}", id);
 
-        countryData.deleteById(id);
+        if (countryData.deleteById(id) == 0) {
+            return false;
+        }
+        populationBuffer.discard(List.of(id));
+        eventPublisher.publishEvent(CountryChangedEvent.deleted(id));
+        return true;
+    }
+
+    @Override
+    public boolean updateIfUnchanged(Country expected, Country country) {
+        logger.debug("Updating country: {} if unchanged from: {}", country, expected);
+
+        populationBuffer.settle(List.of(expected.id()));
+        if (countryData.updateIfUnchanged(expected, country)) {
+            eventPublisher.publishEvent(CountryChangedEvent.saved(country));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean deleteIfUnchanged(Country expected) {
+        logger.debug("Deleting country: {} if unchanged", expected);
+
+        populationBuffer.settle(List.of(expected.id()));
+        if (countryData.deleteIfUnchanged(expected)) {
+            eventPublisher.publishEvent(CountryChangedEvent.deleted(expected.id()));
+            return true;
+        }
+        return false;
     }
 }
@@ -0,0 +1,84 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   POPULATIONHISTOGRAM.JAVA                                    */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of populations answering approximate quantiles, which supports
+ * removing values as well as adding them.
+ * <p>
+ * Values below 16 get a bucket each. Every power of two above is split into 16 buckets of
+ * equal width, so a bucket is at most 1/16 of its lower bound wide and the middle of it is
+ * within about 3% of any value it holds. 960 buckets cover every non-negative {@code long}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class PopulationHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS];
+    private long total;
+
+    void add(long population) {
+        counts[bucket(population)]++;
+        total++;
+    }
+
+    void remove(long population) {
+        counts[bucket(population)]--;
+        total--;
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+        total = 0;
+    }
+
+    /**
+     * Finds the approximate population at a quantile, the smallest value with at least that
+     * fraction of the values at or below it.
+     *
+     * @param quantile Indicates the quantile, between 0 and 1.
+     * @return The middle of the bucket holding the quantile, or 0 if the histogram is empty.
+     */
+    long valueAt(double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return middle(bucket);
+            }
+        }
+        return middle(counts.length - 1);
+    }
+
+    private static int bucket(long population) {
+        if (population < SUB_BUCKETS) {
+            return (int) Math.max(0, population);
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(population) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((population >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long middle(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) - 1) / 2;
+    }
+}
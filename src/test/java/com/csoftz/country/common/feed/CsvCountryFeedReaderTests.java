@@ -0,0 +1,92 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CSVCOUNTRYFEEDREADERTESTS.JAVA                              */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.csoftz.country.common.exception.InvalidCountryFeedException;
+import com.csoftz.country.domain.Country;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CsvCountryFeedReader class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CsvCountryFeedReaderTests {
+
+    /**
+     * Validates columns are found by header name, quoted fields are unescaped and line numbers follow the feed.
+     */
+    @Test
+    void readsQuotedFieldsByHeaderName() throws IOException {
+        List<CountryFeedRecord> records = readAll("""
+            code,population,region,name\r
+            CO,52000000,South America,Colombia\r
+            \r
+            KP,26000000,Asia,"Korea, Democratic People's Republic of ""North""\"
+            BO,12000000,"South
+            America",Bolivia
+            """);
+
+        assertThat(records).containsExactly(
+            CountryFeedRecord.parsed(2, new Country(null, "Colombia", "CO", 52_000_000L)),
+            CountryFeedRecord.parsed(4, new Country(null, "Korea, Democratic People's Republic of \"North\"", "KP", 26_000_000L)),
+            CountryFeedRecord.parsed(5, new Country(null, "Bolivia", "BO", 12_000_000L)));
+    }
+
+    /**
+     * Validates malformed records are reported on their own and reading goes on.
+     */
+    @Test
+    void reportsMalformedRecords() throws IOException {
+        List<CountryFeedRecord> records = readAll("""
+            name,code,population
+            Peru,PE,many
+            Chile,CL
+            Cuba,CU,
+            %s,XX,1
+            Canada,CA,40000000
+            """.formatted("x".repeat(2000)));
+
+        assertThat(records).extracting(CountryFeedRecord::error).containsExactly(
+            "Population must be a whole number",
+            "Expected at least 3 fields but found 2",
+            null,
+            "Field longer than 1024 characters",
+            null);
+        assertThat(records.get(2).country()).isEqualTo(new Country(null, "Cuba", "CU", null));
+        assertThat(records.get(4).line()).isEqualTo(6);
+    }
+
+    /**
+     * Validates a feed whose header does not name the country columns is rejected as a whole.
+     */
+    @Test
+    void rejectsMissingHeaderColumns() {
+        assertThatThrownBy(() -> readAll("name,code\nColombia,CO\n"))
+            .isInstanceOf(InvalidCountryFeedException.class);
+    }
+
+    private static List<CountryFeedRecord> readAll(String csv) throws IOException {
+        List<CountryFeedRecord> records = new ArrayList<>();
+        try (CsvCountryFeedReader reader = new CsvCountryFeedReader(new StringReader(csv))) {
+            CountryFeedRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
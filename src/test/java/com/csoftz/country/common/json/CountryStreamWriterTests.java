@@ -0,0 +1,128 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTREAMWRITERTESTS.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Rows are inserted behind the caches and indexes, so they are turned off.
+ Oct.17/2026  COQ  Added writeJsonArrayLeavesFailedArrayOpen.
+ Oct.17/2026  COQ  Seeded countries get unique codes.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.common.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.service.CountryService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Unit tests for CountryStreamWriter class, streaming from an Oracle-mode H2 database
+ * kept on disk so the table itself does not live on the heap.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./target/h2/country-streaming;MODE=Oracle;LAZY_QUERY_EXECUTION=TRUE",
+    "country.streaming.fetch-size=1000",
+    "country.cache.enabled=false",
+    "country.index.enabled=false",
+    "country.stats.enabled=false"
+})
+class CountryStreamWriterTests {
+    private static final int ROWS = 1_000_000;
+    private static final int SAMPLE_EVERY = 100_000;
+    private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CountryService countryService;
+
+    @Autowired
+    CountryStreamWriter countryStreamWriter;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * Validates a source failing after some rows leaves a JSON array that does not parse.
+     */
+    @Test
+    void writeJsonArrayLeavesFailedArrayOpen() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> countryStreamWriter.writeJsonArray(out, action -> {
+            for (long id = 1; id <= 3; id++) {
+                action.accept(new Country(id, "Country " + id, "C" + id, id * 10));
+            }
+            throw new IllegalStateException("Connection reset");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(out.toString()).startsWith("[{\"id\":1,");
+        assertThatThrownBy(() -> objectMapper.readValue(out.toByteArray(), Country[].class))
+            .isInstanceOf(JsonProcessingException.class);
+    }
+
+    /**
+     * Validates a million rows are written as NDJSON while the heap in use stays flat.
+     */
+    @Test
+    void writeNdjsonKeepsHeapFlat() throws Exception {
+        jdbcTemplate.update("TRUNCATE TABLE country");
+        jdbcTemplate.update("""
+            INSERT INTO country (id, name, code, population)
+            SELECT X, CONCAT('Country ', X), CONCAT('C', X), X * 10 FROM SYSTEM_RANGE(1, ?)""", ROWS);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedHeapAfterGc(memory);
+        long[] peakGrowth = {0};
+        long[] rows = {0};
+        LineCountingOutputStream out = new LineCountingOutputStream();
+
+        long written = countryStreamWriter.writeNdjson(out, action -> countryService.streamAll(country -> {
+            action.accept(country);
+            if (++rows[0] % SAMPLE_EVERY == 0) {
+                peakGrowth[0] = Math.max(peakGrowth[0], usedHeapAfterGc(memory) - baseline);
+            }
+        }));
+
+        assertThat(written).isEqualTo(ROWS);
+        assertThat(out.lines).isEqualTo(ROWS);
+        assertThat(peakGrowth[0]).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static final class LineCountingOutputStream extends OutputStream {
+        long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
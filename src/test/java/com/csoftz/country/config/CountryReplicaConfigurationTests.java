@@ -0,0 +1,98 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYREPLICACONFIGURATIONTESTS.JAVA                       */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Follows save returning an Optional.
+ Oct.17/2026  COQ  Added bulkheadPerDatabase.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.service.CountryService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Unit tests for CountryReplicaConfiguration class, with two Oracle-mode H2 databases
+ * standing in for the primary and the replica. Nothing copies rows between them, so where
+ * a row is found tells which one was read.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + CountryReplicaConfigurationTests.PRIMARY_URL,
+    "country.replica.enabled=true",
+    "country.replica.stickiness=2s",
+    "country.replica.datasource.url=" + CountryReplicaConfigurationTests.REPLICA_URL,
+    "country.replica.datasource.username=sa",
+    "country.replica.datasource.hikari.maximum-pool-size=4",
+    "country.cache.enabled=false",
+    "country.index.enabled=false",
+    "country.stats.enabled=false"
+})
+class CountryReplicaConfigurationTests {
+    static final String PRIMARY_URL = "jdbc:h2:mem:country-primary;MODE=Oracle;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL =
+        "jdbc:h2:mem:country-replica;MODE=Oracle;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:schema.sql'";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CountryService countryService;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    /**
+     * Validates the primary and the replica each get a bulkhead sized to their own pool.
+     */
+    @Test
+    void bulkheadPerDatabase() throws Exception {
+        int primaryPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+
+        assertThat(meterRegistry.get("country.bulkhead.available").tag("target", "primary").gauge().value())
+            .isEqualTo(primaryPoolSize);
+        assertThat(meterRegistry.get("country.bulkhead.available").tag("target", "replica").gauge().value())
+            .isEqualTo(4);
+    }
+
+    /**
+     * Validates reads are answered by the replica and writes land on the primary, which
+     * answers the reads only until the stickiness window after the write closes.
+     */
+    @Test
+    void readsFromReplicaAndWritesToPrimary() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.update("INSERT INTO country (id, name, code, population) VALUES (?, ?, ?, ?)",
+            9_001L, "Hyperborea", "HY", 1_000L);
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertThat(countryService.findById(9_001L)).isPresent());
+
+        Country created = countryService.save(new Country(null, "Thule", "TH", 2_000L)).orElseThrow();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM country WHERE id = ?", Integer.class, created.id()))
+            .isOne();
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM country WHERE id = ?", Integer.class, created.id()))
+            .isZero();
+        assertThat(countryService.findById(created.id())).contains(created);
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertThat(countryService.findById(created.id())).isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYRUNTIMEHINTSTESTS.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryChange;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * Unit tests for CountryRuntimeHints class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryRuntimeHintsTests {
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new CountryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    /**
+     * Validates records written and read with Jackson outside of handler methods can be
+     * built and read reflectively, along with the types nested in them.
+     */
+    @Test
+    void registersBindingHintsForDomainTypes() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Country.class.getMethod("name"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(Country.class.getDeclaredConstructors()[0])).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(CountryChange.class.getMethod("sequence"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CountryChangedEvent.Type.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Size.class.getMethod("max"))).accepts(hints);
+    }
+
+    /**
+     * Validates the Oracle driver can be created from its configured class name.
+     */
+    @Test
+    void registersOracleDriver() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(CountryRuntimeHints.ORACLE_DRIVER))
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,117 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGECONTROLLERTESTS.JAVA                           */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryChange;
+import com.csoftz.country.domain.CountryChangePage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Unit tests for CountryChangeController class against an Oracle-mode H2 database.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CountryChangeControllerTests {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * Validates the changes since a position list a created and then deleted country in order.
+     */
+    @Test
+    void retrieveChangesFollowsWrites() throws Exception {
+        long since = changes("").next();
+        Country created = create("Lemuria", "LM");
+        mockMvc.perform(delete("/api/v1/countries/{id}", created.id()))
+            .andExpect(status().isOk());
+
+        CountryChangePage page = changes("?since=" + since);
+        assertThat(page.changes())
+            .filteredOn(change -> created.id().equals(change.id()))
+            .extracting(CountryChange::type, CountryChange::country)
+            .containsExactly(
+                tuple(CountryChangedEvent.Type.SAVED, created),
+                tuple(CountryChangedEvent.Type.DELETED, null));
+        assertThat(page.next()).isEqualTo(page.changes().getLast().sequence());
+    }
+
+    /**
+     * Validates positions the feed does not hold are answered with 410 Gone, and out of
+     * range limits with 400 Bad Request.
+     */
+    @Test
+    void retrieveChangesRejectsUnknownPositions() throws Exception {
+        mockMvc.perform(get("/api/v1/countries/changes").param("since", "0"))
+            .andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/countries/changes").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Validates a stream sends a change as an event carrying its position.
+     */
+    @Test
+    void streamChangesSendsNewChanges() throws Exception {
+        long since = changes("").next();
+        MvcResult result = mockMvc.perform(get("/api/v1/countries/changes/stream")
+                .param("since", String.valueOf(since))
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        Country created = create("Mu", "MU");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+            .contains("event:change")
+            .contains("\"name\":\"Mu\"")
+            .contains("\"id\":" + created.id()));
+        mockMvc.perform(delete("/api/v1/countries/{id}", created.id()))
+            .andExpect(status().isOk());
+    }
+
+    private CountryChangePage changes(String query) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/countries/changes" + query))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, CountryChangePage.class);
+    }
+
+    private Country create(String name, String code) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new Country(null, name, code, 1_000L))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, Country.class);
+    }
+}
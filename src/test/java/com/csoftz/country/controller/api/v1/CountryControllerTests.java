@@ -0,0 +1,406 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCONTROLLERTESTS.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added import test.
+ Oct.17/2026  COQ  Added cached body test.
+ Oct.17/2026  COQ  Added lookup by code and population range test.
+ Oct.17/2026  COQ  Added multi-get test.
+ Oct.17/2026  COQ  Added population update test.
+ Oct.17/2026  COQ  Added CBOR negotiation test.
+ Oct.17/2026  COQ  POST with a missing identifier is covered by the missing country test.
+ Oct.17/2026  COQ  Every test uses codes of its own.
+ Oct.17/2026  COQ  Upserts by code with a lower-case and a padded code.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryImportError;
+import com.csoftz.country.domain.CountryImportResult;
+import com.csoftz.country.service.CountryPopulationBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Unit tests for CountryController class against an Oracle-mode H2 database.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CountryControllerTests {
+    // The database outlives each test, so every test uses codes of its own.
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    CountryPopulationBuffer populationBuffer;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * Validates a country is served with an ETag that later answers If-None-Match with 304.
+     */
+    @Test
+    void retrieveCountryByIdHonoursIfNoneMatch() throws Exception {
+        Country country = create(new Country(null, "Colombia", "COL", 52_000_000L));
+
+        String etag = mockMvc.perform(get("/api/v1/countries/{id}", country.id()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).isNotBlank();
+        mockMvc.perform(get("/api/v1/countries/{id}", country.id()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    /**
+     * Validates the collection ETag changes once a country is created.
+     */
+    @Test
+    void retrieveAllCountriesHonoursIfNoneMatch() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/countries"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/countries").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        create(new Country(null, "Peru", "PER", 34_000_000L));
+
+        mockMvc.perform(get("/api/v1/countries").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    /**
+     * Validates the collection is sent gzipped under its own ETag when the client accepts it,
+     * and a cached country body is replaced once the country is updated.
+     */
+    @Test
+    void cachedBodiesFollowEncodingAndWrites() throws Exception {
+        Country country = create(new Country(null, "Ecuador", "ECU", 18_000_000L));
+        mockMvc.perform(get("/api/v1/countries/{id}", country.id()))
+            .andExpect(jsonPath("$.population").value(18_000_000L));
+
+        mockMvc.perform(put("/api/v1/countries/{id}", country.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(null, "Ecuador", "ECU", 18_100_000L))))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/countries/{id}", country.id()))
+            .andExpect(jsonPath("$.population").value(18_100_000L));
+
+        var response = mockMvc.perform(get("/api/v1/countries").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING))
+            .andReturn().getResponse();
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            Country[] countries = objectMapper.readValue(in, Country[].class);
+            assertThat(countries).contains(new Country(country.id(), "Ecuador", "ECU", 18_100_000L));
+        }
+        mockMvc.perform(get("/api/v1/countries").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
+    /**
+     * Validates clients preferring CBOR send and get it, from the cached bodies with their
+     * own tags as well as from the other endpoints, while JSON stays the default.
+     */
+    @Test
+    void cborFollowsAccept() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        MediaType cbor = MediaType.APPLICATION_CBOR;
+        byte[] created = mockMvc.perform(post("/api/v1/countries")
+                .contentType(cbor)
+                .accept(cbor)
+                .content(cborMapper.writeValueAsBytes(new Country(null, "Uruguay", "URY", 3_400_000L))))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, cbor.toString()))
+            .andReturn().getResponse().getContentAsByteArray();
+        Country country = cborMapper.readValue(created, Country.class);
+
+        var response = mockMvc.perform(get("/api/v1/countries/{id}", country.id()).accept(cbor))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andReturn().getResponse();
+        assertThat(cborMapper.readValue(response.getContentAsByteArray(), Country.class)).isEqualTo(country);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).endsWith("-cbor\"");
+        mockMvc.perform(get("/api/v1/countries/{id}", country.id()).accept(cbor)
+                .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified());
+
+        byte[] all = mockMvc.perform(get("/api/v1/countries").header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, cbor.toString()))
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(cborMapper.readValue(all, Country[].class)).contains(country);
+        byte[] byCode = mockMvc.perform(get("/api/v1/countries/code/{code}", "URY").accept(cbor))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(cborMapper.readValue(byCode, Country.class)).isEqualTo(country);
+
+        mockMvc.perform(get("/api/v1/countries/{id}", country.id())
+                .header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json"))
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.code").value("URY"));
+    }
+
+    /**
+     * Validates many countries are retrieved in request order with the missing ids reported.
+     */
+    @Test
+    void retrieveCountriesByIdKeepsRequestOrder() throws Exception {
+        Country bolivia = create(new Country(null, "Bolivia", "BOL", 12_000_000L));
+        Country panama = create(new Country(null, "Panama", "PAN", 4_400_000L));
+        long missing = panama.id() + 1_000_000;
+
+        mockMvc.perform(get("/api/v1/countries").param("ids", panama.id() + "," + missing + "," + bolivia.id()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.countries[*].code").value(contains("PAN", "BOL")))
+            .andExpect(jsonPath("$.missing[0]").value(missing));
+        mockMvc.perform(post("/api/v1/countries/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + bolivia.id() + ", " + panama.id() + "]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.countries[*].code").value(contains("BOL", "PAN")))
+            .andExpect(jsonPath("$.missing").isEmpty());
+        mockMvc.perform(post("/api/v1/countries/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Validates countries are found by code and by population range, following later writes.
+     */
+    @Test
+    void retrieveCountriesByCodeAndPopulation() throws Exception {
+        Country country = create(new Country(null, "Nicaragua", "NI", 3_456_789L));
+        create(new Country(null, "Costa Rica", "CR", 3_456_790L));
+
+        mockMvc.perform(get("/api/v1/countries/code/{code}", "ni"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.id").value(country.id()));
+        mockMvc.perform(get("/api/v1/countries").param("minPopulation", "3456789").param("maxPopulation", "3456790"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].code").value(contains("NI", "CR")));
+
+        mockMvc.perform(put("/api/v1/countries/{id}", country.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(null, "Nicaragua", "NIC", 3_456_791L))))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/countries/code/{code}", "NI"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/countries/code/{code}", "NIC"))
+            .andExpect(jsonPath("$.population").value(3_456_791L));
+        mockMvc.perform(get("/api/v1/countries").param("maxPopulation", "3456790"))
+            .andExpect(jsonPath("$[*].code").value(hasItem("CR")))
+            .andExpect(jsonPath("$[*].code").value(not(hasItem("NIC"))));
+    }
+
+    /**
+     * Validates buffered population updates are read back at once and written on flush.
+     */
+    @Test
+    void updatePopulationReadsOwnWrites() throws Exception {
+        Country country = create(new Country(null, "Honduras", "HND", 10_000_000L));
+
+        for (long population = 10_000_001L; population <= 10_000_005L; population++) {
+            mockMvc.perform(patch("/api/v1/countries/{id}/population", country.id())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"population\": " + population + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.population").value(population));
+        }
+        mockMvc.perform(get("/api/v1/countries/{id}", country.id()))
+            .andExpect(jsonPath("$.population").value(10_000_005L));
+        mockMvc.perform(patch("/api/v1/countries/{id}/population", country.id() + 1_000_000)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"population\": 1}"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/v1/countries/{id}/population", country.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"population\": -1}"))
+            .andExpect(status().isBadRequest());
+
+        populationBuffer.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT population FROM country WHERE id = ?", Long.class, country.id()))
+            .isEqualTo(10_000_005L);
+    }
+
+    /**
+     * Validates PUT and DELETE with a stale If-Match are rejected with 412.
+     */
+    @Test
+    void writesHonourIfMatch() throws Exception {
+        Country country = create(new Country(null, "Chile", "CHL", 19_000_000L));
+        String etag = mockMvc.perform(get("/api/v1/countries/{id}", country.id()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newEtag = mockMvc.perform(put("/api/v1/countries/{id}", country.id())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(null, "Chile", "CHL", 19_500_000L))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(newEtag).isNotEqualTo(etag);
+        mockMvc.perform(put("/api/v1/countries/{id}", country.id())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(null, "Chile", "CHL", 1L))))
+            .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/countries/{id}", country.id()).header(HttpHeaders.IF_MATCH, etag))
+            .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/countries/{id}", country.id()).header(HttpHeaders.IF_MATCH, newEtag))
+            .andExpect(status().isOk());
+    }
+
+    /**
+     * Validates saving, updating or deleting a missing country answers 404 and leaves no
+     * trace of it behind.
+     */
+    @Test
+    void writesOnMissingCountryAreNotFound() throws Exception {
+        mockMvc.perform(post("/api/v1/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(404_404L, "Atlantis", "AT", 1L))))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/v1/countries/{id}", 404_404L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(null, "Atlantis", "AT", 1L))))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/countries/{id}", 404_404L))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/countries"))
+            .andExpect(jsonPath("$[*].id").value(not(hasItem(404_404))));
+        mockMvc.perform(delete("/api/v1/countries/{id}", 404_404L))
+            .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Validates upserting by code creates the country once and then updates it in place.
+     */
+    @Test
+    void upsertCountryByCodeIsIdempotent() throws Exception {
+        Country created = upsert(new Country(null, "Venezuela", "VE", 3_400_000L));
+        Country updated = upsert(new Country(null, "Bolivarian Republic of Venezuela", "VE", 3_500_000L));
+
+        assertThat(updated.id()).isEqualTo(created.id());
+        assertThat(updated.name()).isEqualTo("Bolivarian Republic of Venezuela");
+        mockMvc.perform(put("/api/v1/countries/code/{code}", "ve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"name":"Venezuela","code":"ve","population":3600000}"""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(created.id()))
+            .andExpect(jsonPath("$.code").value("VE"));
+        mockMvc.perform(put("/api/v1/countries/code/{code}", " Ve ")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"name":"Venezuela","code":" vE ","population":3700000}"""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(created.id()))
+            .andExpect(jsonPath("$.population").value(3_700_000));
+        mockMvc.perform(put("/api/v1/countries/code/{code}", "VE")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new Country(null, "Paraguay", "PY", 7_000_000L))))
+            .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Validates CSV and NDJSON imports upsert by code and report the rejected records.
+     */
+    @Test
+    void importCountriesUpsertsByCode() throws Exception {
+        Country existing = upsert(new Country(null, "Guyana", "GY", 800_000L));
+
+        CountryImportResult csv = importFeed("text/csv", """
+            name,code,population
+            Co-operative Republic of Guyana,GY,810000
+            Suriname,SR,620000
+            French Guiana,GF,-1
+            """);
+        CountryImportResult ndjson = importFeed(MediaType.APPLICATION_NDJSON_VALUE, """
+            {"name":"Republic of Suriname","code":"SR","population":630000}
+            {"name":"Belize",
+            """);
+
+        assertThat(csv).isEqualTo(new CountryImportResult(1, 1, 1,
+            List.of(new CountryImportError(4, "Population must be non-negative"))));
+        assertThat(ndjson.updated()).isEqualTo(1);
+        assertThat(ndjson.rejected()).isEqualTo(1);
+        mockMvc.perform(get("/api/v1/countries/{id}", existing.id()))
+            .andExpect(jsonPath("$.name").value("Co-operative Republic of Guyana"));
+        mockMvc.perform(post("/api/v1/countries/import")
+                .contentType("text/csv")
+                .content("country,iso\nGuyana,GY\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private CountryImportResult importFeed(String contentType, String feed) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/countries/import")
+                .contentType(contentType)
+                .content(feed))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, CountryImportResult.class);
+    }
+
+    private Country upsert(Country country) throws Exception {
+        String body = mockMvc.perform(put("/api/v1/countries/code/{code}", country.code())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(country)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, Country.class);
+    }
+
+    private Country create(Country country) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(country)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, Country.class);
+    }
+
+    private String json(Country country) throws Exception {
+        return objectMapper.writeValueAsString(country);
+    }
+}
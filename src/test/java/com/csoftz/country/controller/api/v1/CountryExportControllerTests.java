@@ -0,0 +1,185 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYEXPORTCONTROLLERTESTS.JAVA                           */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Seeded countries get unique codes.
+ Oct.17/2026  COQ  Added exportKeepsSnapshotsOfOtherInstances.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.csoftz.country.common.json.CountryStreamWriter;
+import com.csoftz.country.config.CountryExportProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryExportFormat;
+import com.csoftz.country.service.CountryExportService;
+import com.csoftz.country.service.DefaultCountryExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Unit tests for CountryExportController class against an Oracle-mode H2 database. The
+ * cache is off so that rows written straight to the table show up in the snapshots.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest(properties = "country.cache.enabled=false")
+@AutoConfigureMockMvc
+class CountryExportControllerTests {
+    private static final long FIRST_ID = 900_001;
+    private static final int ROWS = 1000;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CountryExportService countryExportService;
+
+    @Autowired
+    CountryData countryData;
+
+    @Autowired
+    CountryStreamWriter countryStreamWriter;
+
+    @Autowired
+    TaskScheduler taskScheduler;
+
+    @Autowired
+    CountryExportProperties exportProperties;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO country (id, name, code, population)
+            SELECT X, CONCAT('Export ', X), CONCAT('EX', X), X FROM SYSTEM_RANGE(?, ?)""", FIRST_ID, FIRST_ID + ROWS - 1);
+        countryExportService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM country WHERE id >= ?", FIRST_ID);
+    }
+
+    /**
+     * Validates the snapshot holds every country, answers If-None-Match with 304 and changes with the data.
+     */
+    @Test
+    void exportServesCurrentSnapshot() throws Exception {
+        MvcResult result = download(get("/api/v1/countries/export").param("format", "ndjson"));
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(result.getResponse().getContentAsString().lines()).hasSize(count());
+        assertThat(result.getResponse().getContentLengthLong()).isEqualTo(result.getResponse().getContentAsByteArray().length);
+        mockMvc.perform(get("/api/v1/countries/export").param("format", "ndjson").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        jdbcTemplate.update("UPDATE country SET population = 0 WHERE id = ?", FIRST_ID);
+        countryExportService.refresh();
+
+        mockMvc.perform(get("/api/v1/countries/export").param("format", "ndjson").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/countries/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Validates clients accepting gzip get the compressed file of the same JSON array.
+     */
+    @Test
+    void exportServesGzipWhenAccepted() throws Exception {
+        byte[] plain = download(get("/api/v1/countries/export")).getResponse().getContentAsByteArray();
+        MvcResult gzipped = download(get("/api/v1/countries/export").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"));
+
+        assertThat(gzipped.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getResponse().getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+        List<Country> countries = List.of(objectMapper.readValue(plain, Country[].class));
+        assertThat(countries).hasSize(count());
+    }
+
+    /**
+     * Validates the file is handed to the container when it supports sendfile, instead of being written.
+     */
+    @Test
+    void exportUsesSendfileWhenSupported() throws Exception {
+        mockMvc.perform(get("/api/v1/countries/export").requestAttr(CountryExportController.SENDFILE_SUPPORT, true))
+            .andExpect(status().isOk())
+            .andExpect(request().attribute(CountryExportController.SENDFILE_START, 0L))
+            .andExpect(content().bytes(new byte[0]))
+            .andDo(result -> {
+                Path file = Path.of((String) result.getRequest().getAttribute(CountryExportController.SENDFILE_FILENAME));
+                assertThat(result.getRequest().getAttribute(CountryExportController.SENDFILE_END)).isEqualTo(Files.size(file));
+                assertThat(result.getResponse().getContentLengthLong()).isEqualTo(Files.size(file));
+            });
+    }
+
+    /**
+     * Validates a rendering leaves the snapshot of another instance sharing the directory alone,
+     * and that an instance removes its own files on shutdown.
+     */
+    @Test
+    void exportKeepsSnapshotsOfOtherInstances() throws Exception {
+        DefaultCountryExportService other = new DefaultCountryExportService(countryData, countryStreamWriter,
+            taskScheduler, exportProperties);
+        Path file = other.current(CountryExportFormat.JSON, false).path();
+
+        jdbcTemplate.update("UPDATE country SET population = 0 WHERE id = ?", FIRST_ID);
+        countryExportService.refresh();
+        jdbcTemplate.update("UPDATE country SET population = 1 WHERE id = ?", FIRST_ID);
+        countryExportService.refresh();
+
+        assertThat(file).exists();
+        other.close();
+        assertThat(file.getParent()).doesNotExist();
+    }
+
+    private MvcResult download(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM country", Integer.class);
+    }
+}
@@ -0,0 +1,73 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTATSCONTROLLERTESTS.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.controller.api.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Unit tests for CountryStatsController class against an Oracle-mode H2 database.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CountryStatsControllerTests {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * Validates the statistics reflect a country as soon as it is created and deleted.
+     */
+    @Test
+    void retrieveStatsFollowsWrites() throws Exception {
+        CountryStats before = stats();
+
+        String body = mockMvc.perform(post("/api/v1/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new Country(null, "Atlantis", "AT", 9_000_000_000L))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        Country created = objectMapper.readValue(body, Country.class);
+
+        CountryStats after = stats();
+        assertThat(after.count()).isEqualTo(before.count() + 1);
+        assertThat(after.totalPopulation()).isEqualTo(before.totalPopulation() + 9_000_000_000L);
+        assertThat(after.maxPopulation()).isEqualTo(9_000_000_000L);
+        assertThat(after.top().getFirst()).isEqualTo(created);
+        assertThat(after.percentiles()).containsKeys("p50", "p90", "p99");
+
+        mockMvc.perform(delete("/api/v1/countries/{id}", created.id()))
+            .andExpect(status().isOk());
+        assertThat(stats()).isEqualTo(before);
+    }
+
+    private CountryStats stats() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/countries/stats"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, CountryStats.class);
+    }
+}
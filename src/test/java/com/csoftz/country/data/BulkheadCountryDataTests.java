@@ -0,0 +1,119 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   BULKHEADCOUNTRYDATATESTS.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.common.exception.CountryDataBusyException;
+import com.csoftz.country.domain.Country;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BulkheadCountryData class.
+ * <p>
+ * The delegate mimics a database with a small connection pool: calls hold one of its
+ * connections for a fixed time and queue for one when all are taken.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class BulkheadCountryDataTests {
+    private static final int POOL_SIZE = 4;
+    private static final long QUERY_MILLIS = 20;
+    private static final Duration RUN_FOR = Duration.ofSeconds(2);
+
+    /**
+     * Validates that with fifty times more callers than connections, admitted calls keep
+     * close to their unloaded latency and throughput stays near the pool capacity, while
+     * the excess is rejected quickly.
+     */
+    @Test
+    void shedsExcessLoadKeepingLatencyAndThroughput() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        BulkheadCountryData bulkhead = new BulkheadCountryData(pooledDelegate(inFlight, maxInFlight),
+            POOL_SIZE, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        Load unloaded = drive(bulkhead, POOL_SIZE);
+        Load overloaded = drive(bulkhead, POOL_SIZE * 50);
+
+        double capacityPerSecond = POOL_SIZE * 1000.0 / QUERY_MILLIS;
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(overloaded.rejected()).isPositive();
+        assertThat(overloaded.throughputPerSecond()).isGreaterThan(capacityPerSecond * 0.6);
+        assertThat(overloaded.throughputPerSecond()).isGreaterThan(unloaded.throughputPerSecond() * 0.7);
+        assertThat(overloaded.p99Millis()).isLessThan(Math.max(unloaded.p99Millis() * 3, QUERY_MILLIS * 4));
+        assertThat(overloaded.maxRejectionMillis()).isLessThan(QUERY_MILLIS * 5);
+    }
+
+    private static CountryData pooledDelegate(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        Semaphore connections = new Semaphore(POOL_SIZE, true);
+        CountryData delegate = mock(CountryData.class);
+        when(delegate.findById(anyLong())).thenAnswer(invocation -> {
+            connections.acquire();
+            try {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(QUERY_MILLIS);
+                return Optional.of(new Country(invocation.getArgument(0), "Colombia", "CO", 52_000_000L));
+            } finally {
+                inFlight.decrementAndGet();
+                connections.release();
+            }
+        });
+        return delegate;
+    }
+
+    private static Load drive(BulkheadCountryData bulkhead, int callers) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger maxRejectionMillis = new AtomicInteger();
+        long deadline = System.nanoTime() + RUN_FOR.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                long id = i;
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            bulkhead.findById(id);
+                            latencies.add(System.nanoTime() - start);
+                        } catch (CountryDataBusyException e) {
+                            rejected.incrementAndGet();
+                            int millis = (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                            maxRejectionMillis.accumulateAndGet(millis, Math::max);
+                            Thread.sleep(QUERY_MILLIS);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        List<Long> sorted = latencies.stream().sorted().toList();
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return new Load(sorted.size() / (double) RUN_FOR.toSeconds(), TimeUnit.NANOSECONDS.toMillis(p99),
+            rejected.get(), maxRejectionMillis.get());
+    }
+
+    private record Load(double throughputPerSecond, long p99Millis, int rejected, long maxRejectionMillis) {
+    }
+}
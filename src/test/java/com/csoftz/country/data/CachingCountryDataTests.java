@@ -0,0 +1,151 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CACHINGCOUNTRYDATATESTS.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added multi-get test.
+ Oct.17/2026  COQ  Added transactionalWritesAreAppliedAfterCommit.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.domain.Country;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for CachingCountryData class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CachingCountryDataTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+
+    private CountryData delegate;
+    private CachingCountryData cachingCountryData;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CountryData.class);
+        cachingCountryData = new CachingCountryData(delegate, Duration.ofMinutes(5), 100);
+    }
+
+    /**
+     * Validates a loaded snapshot answers both list and id reads without going back to the delegate.
+     */
+    @Test
+    void findAllSnapshotServesLaterReads() {
+        when(delegate.findAll()).thenReturn(List.of(COLOMBIA, PERU));
+
+        cachingCountryData.findAll();
+        assertThat(cachingCountryData.findAll()).containsExactly(COLOMBIA, PERU);
+        assertThat(cachingCountryData.findById(2L)).contains(PERU);
+        assertThat(cachingCountryData.findById(3L)).isEmpty();
+
+        verify(delegate, times(1)).findAll();
+        verify(delegate, times(0)).findById(2L);
+        assertThat(cachingCountryData.stats()).isEqualTo(new CountryCacheStats(3, 1, 2));
+    }
+
+    /**
+     * Validates writes update the cached snapshot instead of discarding it.
+     */
+    @Test
+    void writesAreAppliedToSnapshot() {
+        Country updated = new Country(1L, "Colombia", "COL", 53_000_000L);
+        when(delegate.findAll()).thenReturn(List.of(COLOMBIA, PERU));
+        when(delegate.save(updated)).thenReturn(updated);
+
+        cachingCountryData.findAll();
+        cachingCountryData.save(updated);
+        cachingCountryData.deleteById(2L);
+
+        assertThat(cachingCountryData.findAll()).containsExactly(updated);
+        verify(delegate, times(1)).findAll();
+    }
+
+    /**
+     * Validates writes inside a transaction reach the snapshot only when it commits, and
+     * never when it rolls back.
+     */
+    @Test
+    void transactionalWritesAreAppliedAfterCommit() {
+        Country updated = new Country(1L, "Colombia", "CO", 53_000_000L);
+        when(delegate.findAll()).thenReturn(List.of(COLOMBIA, PERU));
+        when(delegate.save(updated)).thenReturn(updated);
+        cachingCountryData.findAll();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cachingCountryData.save(updated);
+            assertThat(cachingCountryData.findAll()).containsExactly(COLOMBIA, PERU);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cachingCountryData.findAll()).containsExactly(COLOMBIA, PERU);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cachingCountryData.save(updated);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(cachingCountryData.findAll()).containsExactly(updated, PERU);
+        verify(delegate, times(1)).findAll();
+    }
+
+    /**
+     * Validates single rows, missing ones included, are cached until they expire.
+     */
+    @Test
+    void findByIdCachesUntilExpired() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(COLOMBIA));
+        when(delegate.findById(9L)).thenReturn(Optional.empty());
+
+        cachingCountryData.findById(1L);
+        cachingCountryData.findById(9L);
+        assertThat(cachingCountryData.findById(1L)).contains(COLOMBIA);
+        assertThat(cachingCountryData.findById(9L)).isEmpty();
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, times(1)).findById(9L);
+
+        CachingCountryData expiring = new CachingCountryData(delegate, Duration.ZERO, 100);
+        expiring.findById(1L);
+        expiring.findById(1L);
+        verify(delegate, times(3)).findById(1L);
+    }
+
+    /**
+     * Validates a multi-get only reads the ids not cached yet, and caches the missing ones too.
+     */
+    @Test
+    void findAllByIdReadsOnlyUncachedIds() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(COLOMBIA));
+        when(delegate.findAllById(Set.of(2L, 9L))).thenReturn(List.of(PERU));
+
+        cachingCountryData.findById(1L);
+        assertThat(cachingCountryData.findAllById(List.of(1L, 2L, 9L, 2L))).containsExactlyInAnyOrder(COLOMBIA, PERU);
+        assertThat(cachingCountryData.findAllById(List.of(9L, 2L))).containsExactly(PERU);
+
+        verify(delegate, times(1)).findAllById(Set.of(2L, 9L));
+        verify(delegate, never()).findAllById(List.of(9L, 2L));
+    }
+}
@@ -0,0 +1,306 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEFAULTCOUNTRYDATATESTS.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added upsertAllByCode test.
+ Oct.17/2026  COQ  Added lookup by code and population range test.
+ Oct.17/2026  COQ  Added multi-get statement count test.
+ Oct.17/2026  COQ  Added saveRejectsUnknownId.
+ Oct.17/2026  COQ  Added upsertByCodeReservesIdsOnlyForNewCodes.
+ Oct.17/2026  COQ  Added overlappingUpsertAllByCodeWritesEachCodeOnce.
+ Oct.17/2026  COQ  Added codesAreStoredNormalized.
+ Oct.17/2026  COQ  A lower-case code prefix finds the normalized codes.
+ Oct.17/2026  COQ  Added upsertByCodeGivesUpOnPersistentConflict.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.csoftz.country.config.CountryBatchProperties;
+import com.csoftz.country.config.CountryStreamingProperties;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryBatchItem;
+import com.csoftz.country.domain.CountryBatchResult;
+import com.csoftz.country.domain.CountryCursor;
+import com.csoftz.country.domain.CountryPage;
+import com.csoftz.country.domain.CountryQuery;
+import com.csoftz.country.domain.CountrySort;
+import com.csoftz.country.domain.CountryUpsertResult;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for DefaultCountryData class against an Oracle-mode H2 database.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@SpringBootTest
+class DefaultCountryDataTests {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DefaultCountryData countryData;
+
+    @Autowired
+    CountryIdGenerator idGenerator;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM country");
+        jdbcTemplate.update("""
+            INSERT INTO country (id, name, code, population) VALUES
+            (1, 'Colombia', 'CO', 52000000), (2, 'Peru', 'PE', 34000000), (3, 'Chile', 'CL', 19000000),
+            (4, 'Canada', 'CA', 40000000), (5, 'Cuba', 'CU', 11000000)""");
+    }
+
+    /**
+     * Validates a multi-get runs one statement per chunk of distinct ids, missing ones included.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAllByIdRunsOneStatementPerChunk() {
+        JdbcTemplate countingTemplate = spy(jdbcTemplate);
+        DefaultCountryData chunked = new DefaultCountryData(countingTemplate, idGenerator, transactionManager,
+            new CountryStreamingProperties(500), new CountryBatchProperties(2, 10_000));
+
+        List<Country> countries = chunked.findAllById(List.of(5L, 1L, 9L, 3L, 1L, 2L));
+
+        assertThat(countries).extracting(Country::id).containsExactlyInAnyOrder(5L, 1L, 3L, 2L);
+        verify(countingTemplate, times(3)).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    /**
+     * Validates the lookups by code and population range used when the index is off.
+     */
+    @Test
+    void findByCodeAndPopulationRange() {
+        assertThat(countryData.findByCode("PE")).contains(new Country(2L, "Peru", "PE", 34_000_000L));
+        assertThat(countryData.findByCode("pe")).isEmpty();
+        assertThat(countryData.findByPopulationBetween(11_000_000L, 34_000_000L))
+            .extracting(Country::code).containsExactly("CU", "CL", "PE");
+        assertThat(countryData.findByPopulationBetween(null, 15_000_000L))
+            .extracting(Country::code).containsExactly("CU");
+    }
+
+    /**
+     * Validates paging by id walks the whole table with the returned cursors.
+     */
+    @Test
+    void findPageSeeksById() {
+        CountryPage first = countryData.findPage(new CountryQuery(null, null, null, null, CountrySort.ID, 2, null));
+        CountryPage second = countryData.findPage(query(CountrySort.ID, 2, first.next()));
+        CountryPage last = countryData.findPage(query(CountrySort.ID, 2, second.next()));
+
+        assertThat(first.items()).extracting(Country::id).containsExactly(1L, 2L);
+        assertThat(second.items()).extracting(Country::id).containsExactly(3L, 4L);
+        assertThat(last.items()).extracting(Country::id).containsExactly(5L);
+        assertThat(last.next()).isNull();
+    }
+
+    /**
+     * Validates paging by population honours the prefix and range filters.
+     */
+    @Test
+    void findPageSeeksByPopulationWithFilters() {
+        CountryQuery query = new CountryQuery("C", null, 15_000_000L, null, CountrySort.POPULATION, 2, null);
+
+        CountryPage first = countryData.findPage(query);
+        CountryPage second = countryData.findPage(new CountryQuery("C", null, 15_000_000L, null,
+            CountrySort.POPULATION, 2, CountryCursor.decode(first.next())));
+
+        assertThat(first.items()).extracting(Country::code).containsExactly("CL", "CA");
+        assertThat(second.items()).extracting(Country::code).containsExactly("CO");
+        assertThat(second.next()).isNull();
+        assertThat(countryData.findPage(new CountryQuery(null, " c", null, null, CountrySort.ID, 10, null)).items())
+            .extracting(Country::code).containsExactly("CO", "CL", "CA", "CU");
+    }
+
+    /**
+     * Validates a batch reports the rows that cannot be written and still saves the others.
+     */
+    @Test
+    void saveAllReportsFailedRowsWithoutAbortingBatch() {
+        List<Country> countries = List.of(
+            new Country(1L, "Republic of Colombia", "CO", 52_500_000L),
+            new Country(99L, "Atlantis", "AT", 1L),
+            new Country(2L, "P".repeat(300), "PE", 34_000_000L));
+
+        CountryBatchResult result = countryData.saveAll(countries);
+
+        assertThat(result.saved()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.items()).extracting(CountryBatchItem::id).containsExactly(1L, null, null);
+        assertThat(result.items().get(1).error()).isEqualTo("Country not found");
+        assertThat(countryData.findById(1L)).map(Country::name).contains("Republic of Colombia");
+        assertThat(countryData.findById(2L)).map(Country::name).contains("Peru");
+    }
+
+    /**
+     * Validates a code given in any casing is stored normalized, so the database lookup finds it.
+     */
+    @Test
+    void codesAreStoredNormalized() {
+        Country created = countryData.save(new Country(null, "Ecuador", " ec ", 18_000_000L));
+        countryData.upsertAllByCode(List.of(new Country(null, "Bolivia", "bo", 12_000_000L)));
+
+        assertThat(created.code()).isEqualTo("EC");
+        assertThat(countryData.findByCode("EC")).contains(created);
+        assertThat(countryData.findByCode("BO")).map(Country::name).contains("Bolivia");
+        assertThat(jdbcTemplate.queryForList("SELECT code FROM country WHERE code IN ('EC', 'BO') ORDER BY code",
+            String.class)).containsExactly("BO", "EC");
+    }
+
+    /**
+     * Validates new countries get distinct generated identifiers, alone or in a batch.
+     */
+    @Test
+    void saveAssignsGeneratedIds() {
+        Country created = countryData.save(new Country(null, "Ecuador", "EC", 18_000_000L));
+        CountryBatchResult result = countryData.saveAll(List.of(
+            new Country(null, "Bolivia", "BO", 12_000_000L),
+            new Country(null, "Uruguay", "UY", 3_400_000L)));
+
+        assertThat(result.saved()).isEqualTo(2);
+        assertThat(countryData.findById(created.id())).map(Country::code).contains("EC");
+        assertThat(result.items()).extracting(CountryBatchItem::id)
+            .doesNotContainNull()
+            .doesNotContain(created.id())
+            .allSatisfy(id -> assertThat(countryData.findById(id)).isPresent());
+    }
+
+    /**
+     * Validates saving a country with an identifier that does not exist fails instead of
+     * reporting it saved.
+     */
+    @Test
+    void saveRejectsUnknownId() {
+        assertThatThrownBy(() -> countryData.save(new Country(404_404L, "Atlantis", "AT", 1L)))
+            .isInstanceOf(IncorrectUpdateSemanticsDataAccessException.class);
+        assertThat(countryData.findById(404_404L)).isEmpty();
+    }
+
+    /**
+     * Validates an upsert by code updates an existing code in place and reserves an
+     * identifier only for a new one.
+     */
+    @Test
+    void upsertByCodeReservesIdsOnlyForNewCodes() {
+        AtomicLong reserved = new AtomicLong();
+        DefaultCountryData counting = new DefaultCountryData(jdbcTemplate, () -> {
+            reserved.incrementAndGet();
+            return idGenerator.nextId();
+        }, transactionManager, new CountryStreamingProperties(500), new CountryBatchProperties(100, 10_000));
+
+        assertThat(counting.upsertByCode(new Country(null, "Republic of Peru", "PE", 34_500_000L)))
+            .containsExactly(new Country(2L, "Republic of Peru", "PE", 34_500_000L));
+        assertThat(reserved.get()).isZero();
+
+        List<Country> inserted = counting.upsertByCode(new Country(null, "Paraguay", "PY", 6_000_000L));
+        assertThat(reserved.get()).isEqualTo(1);
+        assertThat(inserted).singleElement().satisfies(country ->
+            assertThat(countryData.findById(country.id())).contains(country));
+        assertThat(counting.upsertByCode(new Country(null, "Republic of Paraguay", "PY", 6_900_000L)))
+            .containsExactly(new Country(inserted.getFirst().id(), "Republic of Paraguay", "PY", 6_900_000L));
+        assertThat(reserved.get()).isEqualTo(1);
+    }
+
+    /**
+     * Validates an upsert by code whose insert keeps conflicting gives up after a bounded
+     * number of attempts instead of spinning.
+     */
+    @Test
+    void upsertByCodeGivesUpOnPersistentConflict() {
+        JdbcTemplate conflicting = spy(jdbcTemplate);
+        doThrow(new DuplicateKeyException("code taken")).when(conflicting).update(contains("MERGE"), any(Object[].class));
+        DefaultCountryData upserting = new DefaultCountryData(conflicting, idGenerator, transactionManager,
+            new CountryStreamingProperties(500), new CountryBatchProperties(100, 10_000));
+
+        assertThatThrownBy(() -> upserting.upsertByCode(new Country(null, "Paraguay", "PY", 6_000_000L)))
+            .isInstanceOf(ConcurrencyFailureException.class)
+            .hasCauseInstanceOf(DuplicateKeyException.class);
+        verify(conflicting, times(3)).update(contains("MERGE"), any(Object[].class));
+    }
+
+    /**
+     * Validates a bulk upsert updates existing codes, inserts new ones and writes a repeated code once.
+     */
+    @Test
+    void upsertAllByCodeInsertsAndUpdates() {
+        CountryUpsertResult result = countryData.upsertAllByCode(List.of(
+            new Country(null, "Republic of Peru", "PE", 34_500_000L),
+            new Country(null, "Paraguay", "PY", 6_000_000L),
+            new Country(null, "Republic of Paraguay", "PY", 6_900_000L)));
+
+        assertThat(result.updated()).containsExactly(new Country(2L, "Republic of Peru", "PE", 34_500_000L));
+        assertThat(result.inserted()).singleElement().satisfies(country -> {
+            assertThat(country.id()).isNotNull();
+            assertThat(countryData.findById(country.id())).contains(country);
+            assertThat(country.name()).isEqualTo("Republic of Paraguay");
+        });
+        assertThat(countryData.findById(2L)).map(Country::population).contains(34_500_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM country", Integer.class)).isEqualTo(6);
+    }
+
+    /**
+     * Validates two overlapping bulk upserts of the same new codes write each code once: the
+     * import that loses the race to insert a code updates it instead of failing.
+     */
+    @Test
+    void overlappingUpsertAllByCodeWritesEachCodeOnce() throws Exception {
+        CompletableFuture<Void> read = new CompletableFuture<>();
+        CompletableFuture<Void> committed = new CompletableFuture<>();
+        DefaultCountryData gated = new DefaultCountryData(jdbcTemplate, () -> {
+            read.complete(null);
+            committed.join();
+            return idGenerator.nextId();
+        }, transactionManager, new CountryStreamingProperties(500), new CountryBatchProperties(100, 10_000));
+
+        CompletableFuture<CountryUpsertResult> first = CompletableFuture.supplyAsync(() -> gated.upsertAllByCode(List.of(
+            new Country(null, "Paraguay", "PY", 6_000_000L),
+            new Country(null, "Uruguay", "UY", 3_400_000L))));
+        read.get(10, TimeUnit.SECONDS);
+        CountryUpsertResult second = countryData.upsertAllByCode(List.of(
+            new Country(null, "Republic of Paraguay", "PY", 6_900_000L),
+            new Country(null, "Oriental Republic of Uruguay", "UY", 3_500_000L)));
+        committed.complete(null);
+
+        CountryUpsertResult retried = first.get(10, TimeUnit.SECONDS);
+        assertThat(second.inserted()).hasSize(2);
+        assertThat(retried.inserted()).isEmpty();
+        assertThat(retried.updated()).extracting(Country::id)
+            .containsExactlyElementsOf(second.inserted().stream().map(Country::id).toList());
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM country WHERE code IN ('PY', 'UY') ORDER BY code",
+            String.class)).containsExactly("Paraguay", "Uruguay");
+    }
+
+    private static CountryQuery query(CountrySort sort, int limit, String after) {
+        return new CountryQuery(null, null, null, null, sort, limit, CountryCursor.decode(after));
+    }
+}
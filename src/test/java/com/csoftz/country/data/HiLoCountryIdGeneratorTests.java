@@ -0,0 +1,120 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   HILOCOUNTRYIDGENERATORTESTS.JAVA                            */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added nextIdReservesOnCallerWhenPrefetchIsLate.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for HiLoCountryIdGenerator class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class HiLoCountryIdGeneratorTests {
+    private static final int THREADS = 32;
+    private static final int IDS_PER_THREAD = 20_000;
+    private static final int BLOCK_SIZE = 100;
+
+    /**
+     * Validates identifiers stay unique when many threads draw them at once, and that
+     * blocks are reserved roughly once per block size identifiers.
+     */
+    @Test
+    void nextIdIsUniqueAcrossThreads() throws Exception {
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong reservations = new AtomicLong();
+        try (ExecutorService background = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService callers = Executors.newFixedThreadPool(THREADS)) {
+            HiLoCountryIdGenerator generator = new HiLoCountryIdGenerator(() -> {
+                reservations.incrementAndGet();
+                return sequence.incrementAndGet();
+            }, BLOCK_SIZE, 20, background);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            CountDownLatch start = new CountDownLatch(1);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            int total = THREADS * IDS_PER_THREAD;
+            assertThat(ids).hasSize(total);
+            assertThat(ids).allMatch(id -> id >= BLOCK_SIZE);
+            assertThat(reservations.get()).isBetween((long) total / BLOCK_SIZE, (long) total / BLOCK_SIZE + 2);
+        }
+    }
+
+    /**
+     * Validates callers reserve the next block themselves when the background reservation
+     * has not run, and that the late reservation still serves the block after.
+     */
+    @Test
+    void nextIdReservesOnCallerWhenPrefetchIsLate() {
+        AtomicLong sequence = new AtomicLong();
+        List<Thread> reservingThreads = new ArrayList<>();
+        List<Runnable> queued = new ArrayList<>();
+        HiLoCountryIdGenerator generator = new HiLoCountryIdGenerator(() -> {
+            reservingThreads.add(Thread.currentThread());
+            return sequence.incrementAndGet();
+        }, 10, 5, queued::add);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(generator.nextId());
+        }
+        assertThat(ids).startsWith(10L).endsWith(29L).doesNotHaveDuplicates();
+        assertThat(reservingThreads).hasSize(2).containsOnly(Thread.currentThread());
+
+        queued.forEach(Runnable::run);
+        assertThat(generator.nextId()).isEqualTo(30);
+        assertThat(sequence.get()).isEqualTo(3);
+    }
+
+    /**
+     * Validates a failed reservation is reported and retried on the next call.
+     */
+    @Test
+    void nextIdRetriesAfterFailedReservation() {
+        AtomicLong calls = new AtomicLong();
+        HiLoCountryIdGenerator generator = new HiLoCountryIdGenerator(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Sequence unavailable");
+            }
+            return 7;
+        }, 10, 0, Runnable::run);
+
+        assertThatThrownBy(generator::nextId)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Sequence unavailable");
+        assertThat(generator.nextId()).isEqualTo(70);
+        assertThat(generator.nextId()).isEqualTo(71);
+    }
+}
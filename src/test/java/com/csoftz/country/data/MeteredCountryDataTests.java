@@ -0,0 +1,125 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   METEREDCOUNTRYDATATESTS.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added targetsKeepSeparateMeters.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.domain.Country;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for MeteredCountryData class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class MeteredCountryDataTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+
+    private CountryData delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredCountryData meteredCountryData;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CountryData.class);
+        registry = new SimpleMeterRegistry();
+        meteredCountryData = new MeteredCountryData(delegate, registry, "primary");
+    }
+
+    /**
+     * Validates a call is timed and its rows are recorded under its operation.
+     */
+    @Test
+    void findAllRecordsTimeAndRows() {
+        when(delegate.findAll()).thenReturn(List.of(COLOMBIA, PERU));
+
+        assertThat(meteredCountryData.findAll()).containsExactly(COLOMBIA, PERU);
+
+        assertThat(registry.get(MeteredCountryData.CALLS).tag("operation", "findAll").timer().count()).isEqualTo(1);
+        assertThat(registry.get(MeteredCountryData.ROWS).tag("operation", "findAll").summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get(MeteredCountryData.CALLS).tag("operation", "findById").timer().count()).isZero();
+    }
+
+    /**
+     * Validates a failed call is still timed and counted as an error tagged with its exception.
+     */
+    @Test
+    void failedCallCountsError() {
+        when(delegate.deleteById(1L)).thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+        assertThatThrownBy(() -> meteredCountryData.deleteById(1L)).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(registry.get(MeteredCountryData.CALLS).tag("operation", "deleteById").timer().count()).isEqualTo(1);
+        assertThat(registry.get(MeteredCountryData.ERRORS)
+            .tag("operation", "deleteById")
+            .tag("exception", "DataAccessResourceFailureException")
+            .counter().count()).isEqualTo(1);
+        assertThat(registry.get(MeteredCountryData.ROWS).tag("operation", "deleteById").summary().count()).isZero();
+    }
+
+    /**
+     * Validates a primary and a replica metered on the same registry keep separate meters.
+     */
+    @Test
+    void targetsKeepSeparateMeters() {
+        CountryData replica = mock(CountryData.class);
+        when(replica.findAll()).thenReturn(List.of(COLOMBIA));
+        MeteredCountryData meteredReplica = new MeteredCountryData(replica, registry, "replica");
+
+        meteredReplica.findAll();
+
+        assertThat(registry.get(MeteredCountryData.CALLS).tag("operation", "findAll").tag("target", "replica").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get(MeteredCountryData.CALLS).tag("operation", "findAll").tag("target", "primary").timer().count())
+            .isZero();
+    }
+
+    /**
+     * Validates the time the streaming action takes is not charged to the data access timer.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllExcludesActionTime() {
+        doAnswer(invocation -> {
+            Consumer<Country> action = invocation.getArgument(0);
+            action.accept(COLOMBIA);
+            action.accept(PERU);
+            return null;
+        }).when(delegate).streamAll(any(Consumer.class));
+
+        meteredCountryData.streamAll(country -> sleep(100));
+
+        Timer timer = registry.get(MeteredCountryData.CALLS).tag("operation", "streamAll").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isLessThan(100);
+        assertThat(registry.get(MeteredCountryData.ROWS).tag("operation", "streamAll").summary().totalAmount()).isEqualTo(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
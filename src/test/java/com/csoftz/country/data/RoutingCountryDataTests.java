@@ -0,0 +1,107 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   ROUTINGCOUNTRYDATATESTS.JAVA                                */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added populationUpdatesStickOnlyTheirCountries.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.domain.Country;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for RoutingCountryData class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class RoutingCountryDataTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+
+    private final CountryData primary = mock(CountryData.class);
+    private final CountryData replica = mock(CountryData.class);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    /**
+     * Validates reads go to the replica and writes to the primary, with reads following
+     * the primary for the stickiness window after a write.
+     */
+    @Test
+    void routesReadsToReplicaExceptAfterWrites() {
+        when(replica.findById(1L)).thenReturn(Optional.empty());
+        when(primary.save(COLOMBIA)).thenReturn(COLOMBIA);
+        when(primary.findById(1L)).thenReturn(Optional.of(COLOMBIA));
+
+        RoutingCountryData routing = new RoutingCountryData(primary, replica, Duration.ofMinutes(1));
+        assertThat(routing.findById(1L)).isEmpty();
+        routing.save(COLOMBIA);
+        assertThat(routing.findById(1L)).contains(COLOMBIA);
+        assertThat(routing.replicaReads()).isEqualTo(1);
+        assertThat(routing.primaryReads()).isEqualTo(1);
+
+        RoutingCountryData unsticky = new RoutingCountryData(primary, replica, Duration.ZERO);
+        unsticky.save(COLOMBIA);
+        assertThat(unsticky.findById(1L)).isEmpty();
+    }
+
+    /**
+     * Validates reads in a read-write transaction see its own writes on the primary.
+     */
+    @Test
+    void routesReadsInWriteTransactionsToPrimary() {
+        RoutingCountryData routing = new RoutingCountryData(primary, replica, Duration.ZERO);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        routing.findAll();
+        routing.streamAll(country -> { });
+
+        verify(primary).findAll();
+        verify(primary).streamAll(any());
+        verifyNoInteractions(replica);
+    }
+
+    /**
+     * Validates a population update keeps only reads of the countries it wrote on the
+     * primary, so frequent flushes do not pull every read off the replica.
+     */
+    @Test
+    void populationUpdatesStickOnlyTheirCountries() {
+        RoutingCountryData routing = new RoutingCountryData(primary, replica, Duration.ofMinutes(1));
+        routing.updatePopulations(Map.of(1L, 52_100_000L));
+
+        routing.findById(1L);
+        routing.findAllById(List.of(2L, 1L));
+        routing.findById(2L);
+        routing.findAll();
+
+        verify(primary).findById(1L);
+        verify(primary).findAllById(List.of(2L, 1L));
+        verify(replica).findById(2L);
+        verify(replica).findAll();
+        assertThat(routing.primaryReads()).isEqualTo(2);
+        assertThat(routing.replicaReads()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,103 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYCHANGEFEEDTESTS.JAVA                                 */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.common.exception.CountryChangesUnavailableException;
+import com.csoftz.country.config.CountryChangeFeedProperties;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryChange;
+import com.csoftz.country.domain.CountryChangePage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CountryChangeFeed class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryChangeFeedTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+
+    private CountryChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = new CountryChangeFeed(new CountryChangeFeedProperties(3, 2, Duration.ofMinutes(1), Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Validates changes are listed in order after a position, a page at a time.
+     */
+    @Test
+    void changesSinceListsChangesInPages() {
+        long start = changeFeed.latest();
+        changeFeed.onCountryChanged(CountryChangedEvent.saved(COLOMBIA));
+        changeFeed.onCountryChanged(CountryChangedEvent.saved(PERU));
+        changeFeed.onCountryChanged(CountryChangedEvent.deleted(1L));
+
+        CountryChangePage first = changeFeed.changesSince(start, 2);
+        assertThat(first.changes()).containsExactly(
+            new CountryChange(start + 1, CountryChangedEvent.Type.SAVED, 1L, COLOMBIA),
+            new CountryChange(start + 2, CountryChangedEvent.Type.SAVED, 2L, PERU));
+        assertThat(first.next()).isEqualTo(start + 2);
+        assertThat(first.more()).isTrue();
+
+        CountryChangePage second = changeFeed.changesSince(first.next(), 2);
+        assertThat(second.changes()).containsExactly(new CountryChange(start + 3, CountryChangedEvent.Type.DELETED, 1L, null));
+        assertThat(second.more()).isFalse();
+        assertThat(changeFeed.changesSince(second.next(), 2)).isEqualTo(new CountryChangePage(List.of(), start + 3, false));
+    }
+
+    /**
+     * Validates positions the feed no longer reaches, or never handed out, are refused.
+     */
+    @Test
+    void changesSinceRefusesDroppedPositions() {
+        long start = changeFeed.latest();
+        for (int i = 0; i < 4; i++) {
+            changeFeed.onCountryChanged(CountryChangedEvent.saved(COLOMBIA));
+        }
+
+        assertThatThrownBy(() -> changeFeed.changesSince(start, 2)).isInstanceOf(CountryChangesUnavailableException.class);
+        assertThatThrownBy(() -> changeFeed.changesSince(start - 1, 2)).isInstanceOf(CountryChangesUnavailableException.class);
+        assertThatThrownBy(() -> changeFeed.changesSince(start + 5, 2)).isInstanceOf(CountryChangesUnavailableException.class);
+        assertThat(changeFeed.changesSince(start + 1, 3).changes()).hasSize(3);
+    }
+
+    /**
+     * Validates a waiting reader wakes up with a change as soon as it is appended, and gets
+     * an empty page if none happens in time.
+     */
+    @Test
+    void awaitChangesSinceWaitsForNextChange() throws Exception {
+        long start = changeFeed.latest();
+        assertThat(changeFeed.awaitChangesSince(start, 2, Duration.ofMillis(10)).changes()).isEmpty();
+
+        CompletableFuture<CountryChangePage> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return changeFeed.awaitChangesSince(start, 2, Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        changeFeed.onCountryChanged(CountryChangedEvent.saved(PERU));
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS).changes())
+            .containsExactly(new CountryChange(start + 1, CountryChangedEvent.Type.SAVED, 2L, PERU));
+    }
+}
@@ -0,0 +1,165 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYINDEXTESTS.JAVA                                      */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added duplicateCodeResolvesToLowestId.
+ Oct.17/2026  COQ  Added populationIndexFollowsChanges.
+ Oct.17/2026  COQ  Added failedLoadIsRetriedOnRefresh.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryIndexProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for CountryIndex class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryIndexTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+    private static final Country CHILE = new Country(3L, "Chile", "CL", 19_000_000L);
+    private static final Country CUBA = new Country(4L, "Cuba", "CU", 19_000_000L);
+
+    private CountryData countryData;
+    private CountryIndex countryIndex;
+
+    @BeforeEach
+    void setUp() {
+        countryData = mock(CountryData.class);
+        countryIndex = new CountryIndex(countryData, new CountryIndexProperties(true, Duration.ofMinutes(5)));
+    }
+
+    /**
+     * Validates ranges include both bounds and are ordered by population and then by id.
+     */
+    @Test
+    void findByPopulationBetweenIsInclusiveAndOrdered() {
+        when(countryData.findAll()).thenReturn(List.of(COLOMBIA, PERU, CUBA, CHILE));
+        countryIndex.rebuild();
+
+        assertThat(countryIndex.findByPopulationBetween(19_000_000L, 34_000_000L)).containsExactly(CHILE, CUBA, PERU);
+        assertThat(countryIndex.findByPopulationBetween(19_000_001L, 33_999_999L)).isEmpty();
+        assertThat(countryIndex.findByPopulationBetween(null, 19_000_000L)).containsExactly(CHILE, CUBA);
+        assertThat(countryIndex.findByPopulationBetween(40_000_000L, null)).containsExactly(COLOMBIA);
+        assertThat(countryIndex.findByPopulationBetween(60_000_000L, 10_000_000L)).isEmpty();
+    }
+
+    /**
+     * Validates changes move a country to its new code and population, and deletions remove it.
+     */
+    @Test
+    void changesKeepIndexesCurrent() {
+        when(countryData.findAll()).thenReturn(List.of(COLOMBIA, PERU));
+        countryIndex.rebuild();
+        Country renamed = new Country(2L, "Peru", "PER", 35_000_000L);
+
+        countryIndex.onCountryChanged(CountryChangedEvent.saved(renamed));
+        countryIndex.onCountryChanged(CountryChangedEvent.deleted(1L));
+
+        assertThat(countryIndex.findByCode("PE")).isEmpty();
+        assertThat(countryIndex.findByCode(CountryIndex.normalize(" per "))).contains(renamed);
+        assertThat(countryIndex.findByCode("CO")).isEmpty();
+        assertThat(countryIndex.findByPopulationBetween(null, null)).containsExactly(renamed);
+    }
+
+    /**
+     * Validates range lookups follow single changes moved within the sorted populations, and
+     * a burst of changes between two lookups.
+     */
+    @Test
+    void populationIndexFollowsChanges() {
+        when(countryData.findAll()).thenReturn(List.of(COLOMBIA, PERU, CHILE));
+        countryIndex.rebuild();
+        assertThat(countryIndex.findByPopulationBetween(null, null)).containsExactly(CHILE, PERU, COLOMBIA);
+
+        Country grown = new Country(3L, "Chile", "CL", 40_000_000L);
+        countryIndex.onCountryChanged(CountryChangedEvent.saved(grown));
+        countryIndex.onCountryChanged(CountryChangedEvent.saved(CUBA));
+        countryIndex.onCountryChanged(CountryChangedEvent.deleted(2L));
+        assertThat(countryIndex.findByPopulationBetween(null, null)).containsExactly(CUBA, grown, COLOMBIA);
+        assertThat(countryIndex.findByPopulationBetween(19_000_000L, 40_000_000L)).containsExactly(CUBA, grown);
+
+        for (long id = 100; id < 200; id++) {
+            countryIndex.onCountryChanged(CountryChangedEvent.saved(new Country(id, "Island " + id, "I" + (id - 100), id)));
+        }
+        countryIndex.onCountryChanged(CountryChangedEvent.deleted(4L));
+        assertThat(countryIndex.findByPopulationBetween(150L, 151L)).extracting(Country::id).containsExactly(150L, 151L);
+        assertThat(countryIndex.findByPopulationBetween(1_000L, null)).containsExactly(grown, COLOMBIA);
+    }
+
+    /**
+     * Validates a code held by several countries resolves to the lowest identifier, as the
+     * database lookup does, whatever order they were written in.
+     */
+    @Test
+    void duplicateCodeResolvesToLowestId() {
+        Country cuba = new Country(5L, "Republic of Cuba", "CU", 11_000_000L);
+        Country curacao = new Country(6L, "Curacao", "cu", 150_000L);
+        when(countryData.findAll()).thenReturn(List.of(curacao, cuba));
+        countryIndex.rebuild();
+
+        assertThat(countryIndex.findByCode("CU")).contains(cuba);
+        countryIndex.onCountryChanged(CountryChangedEvent.saved(CUBA));
+        assertThat(countryIndex.findByCode("CU")).contains(CUBA);
+        countryIndex.onCountryChanged(CountryChangedEvent.deleted(4L));
+        assertThat(countryIndex.findByCode("CU")).contains(cuba);
+        countryIndex.onCountryChanged(CountryChangedEvent.deleted(5L));
+        assertThat(countryIndex.findByCode("CU")).contains(curacao);
+        countryIndex.onCountryChanged(CountryChangedEvent.deleted(6L));
+        assertThat(countryIndex.findByCode("CU")).isEmpty();
+    }
+
+    /**
+     * Validates a failed load leaves the indexes not ready instead of failing, and a later
+     * refresh loads them, picking up rows written meanwhile.
+     */
+    @Test
+    void failedLoadIsRetriedOnRefresh() {
+        when(countryData.findAll())
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(List.of(COLOMBIA))
+            .thenReturn(List.of(COLOMBIA, PERU));
+
+        countryIndex.load();
+        assertThat(countryIndex.isReady()).isFalse();
+        countryIndex.refresh();
+        assertThat(countryIndex.findByCode("CO")).contains(COLOMBIA);
+        countryIndex.refresh();
+        assertThat(countryIndex.findByCode("PE")).contains(PERU);
+    }
+
+    /**
+     * Validates a change arriving while the indexes load is not lost, and nothing is
+     * answered before they are loaded.
+     */
+    @Test
+    void changeDuringRebuildIsApplied() {
+        when(countryData.findAll()).thenAnswer(invocation -> {
+            countryIndex.onCountryChanged(CountryChangedEvent.saved(CHILE));
+            return List.of(COLOMBIA);
+        });
+
+        assertThat(countryIndex.isReady()).isFalse();
+        countryIndex.rebuild();
+
+        assertThat(countryIndex.isReady()).isTrue();
+        assertThat(countryIndex.findByCode("CL")).contains(CHILE);
+        assertThat(countryIndex.findByCode("CO")).contains(COLOMBIA);
+    }
+}
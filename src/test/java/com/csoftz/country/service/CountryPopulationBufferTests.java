@@ -0,0 +1,144 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYPOPULATIONBUFFERTESTS.JAVA                           */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added replaceWaitsForFlushInProgress.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.config.CountryPopulationBufferProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for CountryPopulationBuffer class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryPopulationBufferTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+
+    private CountryData countryData;
+    private CountryPopulationBuffer populationBuffer;
+
+    @BeforeEach
+    void setUp() {
+        countryData = mock(CountryData.class);
+        populationBuffer = new CountryPopulationBuffer(countryData,
+            new CountryPopulationBufferProperties(true, Duration.ofSeconds(1), 3));
+    }
+
+    /**
+     * Validates repeated updates of a country are written once, with the latest population,
+     * and are read back before that.
+     */
+    @Test
+    void updatesAreCoalescedAndVisible() {
+        populationBuffer.put(1L, 52_100_000L);
+        populationBuffer.put(1L, 52_200_000L);
+        populationBuffer.put(2L, 34_100_000L);
+
+        assertThat(populationBuffer.overlay(List.of(COLOMBIA, PERU)))
+            .extracting(Country::population).containsExactly(52_200_000L, 34_100_000L);
+        verify(countryData, never()).updatePopulations(anyMap());
+
+        populationBuffer.flush();
+        populationBuffer.flush();
+
+        verify(countryData, times(1)).updatePopulations(Map.of(1L, 52_200_000L, 2L, 34_100_000L));
+        assertThat(populationBuffer.overlay(COLOMBIA)).isSameAs(COLOMBIA);
+    }
+
+    /**
+     * Validates a failed flush keeps the populations pending, and closing writes them.
+     */
+    @Test
+    void failedFlushIsRetriedOnClose() {
+        when(countryData.updatePopulations(anyMap()))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(1);
+        populationBuffer.put(1L, 52_100_000L);
+
+        populationBuffer.flush();
+        assertThat(populationBuffer.overlay(COLOMBIA).population()).isEqualTo(52_100_000L);
+        populationBuffer.close();
+
+        verify(countryData, times(2)).updatePopulations(Map.of(1L, 52_100_000L));
+        assertThat(populationBuffer.overlay(COLOMBIA)).isSameAs(COLOMBIA);
+    }
+
+    /**
+     * Validates too many pending countries are written without waiting, and a whole
+     * country write settles its own pending population only.
+     */
+    @Test
+    void maxPendingAndSettleWriteAtOnce() {
+        populationBuffer.put(1L, 1L);
+        populationBuffer.put(2L, 2L);
+        populationBuffer.settle(List.of(2L, 9L));
+        verify(countryData).updatePopulations(Map.of(2L, 2L));
+
+        populationBuffer.put(3L, 3L);
+        populationBuffer.put(4L, 4L);
+        verify(countryData).updatePopulations(Map.of(1L, 1L, 3L, 3L, 4L, 4L));
+    }
+
+    /**
+     * Validates a write replacing a country waits for a flush in progress, so a population
+     * that flush copied cannot land after it, and drops the population still pending.
+     */
+    @Test
+    void replaceWaitsForFlushInProgress() throws Exception {
+        CompletableFuture<Void> flushing = new CompletableFuture<>();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        List<String> writes = new CopyOnWriteArrayList<>();
+        when(countryData.updatePopulations(anyMap())).thenAnswer(invocation -> {
+            flushing.complete(null);
+            release.join();
+            writes.add("flush");
+            return 1;
+        });
+        populationBuffer.put(1L, 52_100_000L);
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(populationBuffer::flush);
+        flushing.get(10, TimeUnit.SECONDS);
+        CompletableFuture<Long> replace = CompletableFuture.supplyAsync(() -> populationBuffer.replace(() -> {
+            writes.add("replace");
+            return 1L;
+        }, id -> List.of(id)));
+        assertThatThrownBy(() -> replace.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        release.complete(null);
+        flush.get(10, TimeUnit.SECONDS);
+        replace.get(10, TimeUnit.SECONDS);
+        assertThat(writes).containsExactly("flush", "replace");
+
+        populationBuffer.put(1L, 52_200_000L);
+        populationBuffer.replace(() -> 1L, id -> List.of(id));
+        populationBuffer.flush();
+        assertThat(populationBuffer.overlay(COLOMBIA)).isSameAs(COLOMBIA);
+        verify(countryData, times(1)).updatePopulations(anyMap());
+    }
+}
@@ -0,0 +1,108 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYRESPONSECACHETESTS.JAVA                              */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added CBOR representation test.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryResponseCacheProperties;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.service.CountryResponseCache.EncodedBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CountryResponseCache class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryResponseCacheTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+
+    private ObjectMapper objectMapper;
+    private CountryResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        responseCache = new CountryResponseCache(objectMapper,
+            new CountryResponseCacheProperties(true, Duration.ofMinutes(5), 100));
+    }
+
+    /**
+     * Validates a change drops the changed country and the collection, and keeps the other countries.
+     */
+    @Test
+    void changeInvalidatesOnlyAffectedBodies() {
+        long generation = responseCache.generation();
+        responseCache.putCollection(generation, "\"c1\"", List.of(COLOMBIA, PERU));
+        responseCache.putCountry(generation, "\"1\"", COLOMBIA);
+        responseCache.putCountry(generation, "\"2\"", PERU);
+
+        responseCache.onCountryChanged(CountryChangedEvent.deleted(2L));
+
+        assertThat(responseCache.collection()).isNull();
+        assertThat(responseCache.country(2L)).isNull();
+        assertThat(responseCache.country(1L).etag(false)).isEqualTo("\"1\"");
+    }
+
+    /**
+     * Validates a body encoded from data read before a change is returned but not kept.
+     */
+    @Test
+    void staleBodyIsNotKept() throws IOException {
+        long generation = responseCache.generation();
+        responseCache.onCountryChanged(CountryChangedEvent.saved(COLOMBIA));
+
+        EncodedBody body = responseCache.putCountry(generation, "\"1\"", COLOMBIA);
+
+        assertThat(objectMapper.readValue(body.bytes(false), Country.class)).isEqualTo(COLOMBIA);
+        assertThat(responseCache.country(1L)).isNull();
+    }
+
+    /**
+     * Validates the gzip encoding holds the same JSON under its own tag.
+     */
+    @Test
+    void gzipEncodingHasOwnTag() throws IOException {
+        EncodedBody body = responseCache.putCollection(responseCache.generation(), "\"c1\"", List.of(COLOMBIA, PERU));
+
+        assertThat(body.etag(true)).isEqualTo("\"c1-gzip\"");
+        assertThat(body.bytes(true)).isSameAs(body.bytes(true));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.bytes(true)))) {
+            assertThat(in.readAllBytes()).isEqualTo(body.bytes(false));
+        }
+        assertThat(responseCache.collection()).isSameAs(body);
+    }
+
+    /**
+     * Validates the CBOR representation decodes to the same countries the JSON holds, under
+     * its own tag, and is transcoded once.
+     */
+    @Test
+    void cborRepresentationHasOwnTag() throws IOException {
+        EncodedBody body = responseCache.putCollection(responseCache.generation(), "\"c1\"", List.of(COLOMBIA, PERU));
+
+        EncodedBody cbor = body.cbor();
+        assertThat(cbor).isSameAs(body.cbor());
+        assertThat(cbor.etag(false)).isEqualTo("\"c1-cbor\"");
+        assertThat(cbor.etag(true)).isEqualTo("\"c1-cbor-gzip\"");
+        assertThat(new CBORMapper().readValue(cbor.bytes(false), Country[].class)).containsExactly(COLOMBIA, PERU);
+        assertThat(cbor.bytes(false).length).isLessThan(body.bytes(false).length);
+    }
+}
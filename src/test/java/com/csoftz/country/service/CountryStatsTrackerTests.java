@@ -0,0 +1,103 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYSTATSTRACKERTESTS.JAVA                               */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.config.CountryStatsProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryStats;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CountryStatsTracker class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryStatsTrackerTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country PERU = new Country(2L, "Peru", "PE", 34_000_000L);
+    private static final Country CHILE = new Country(3L, "Chile", "CL", 19_000_000L);
+
+    private CountryData countryData;
+    private CountryStatsTracker statsTracker;
+
+    @BeforeEach
+    void setUp() {
+        countryData = mock(CountryData.class);
+        statsTracker = new CountryStatsTracker(countryData, new CountryStatsProperties(true, 2, List.of(0.5, 0.999)));
+    }
+
+    /**
+     * Validates the statistics follow saves, updates and deletions without reading the table again.
+     */
+    @Test
+    void changesAdjustStatistics() {
+        load(List.of(COLOMBIA, PERU));
+        assertThat(statsTracker.stats()).get().extracting(CountryStats::totalPopulation).isEqualTo(86_000_000L);
+
+        statsTracker.onCountryChanged(CountryChangedEvent.saved(CHILE));
+        statsTracker.onCountryChanged(CountryChangedEvent.saved(new Country(2L, "Peru", "PE", 60_000_000L)));
+        statsTracker.onCountryChanged(CountryChangedEvent.deleted(1L));
+
+        CountryStats stats = statsTracker.stats().orElseThrow();
+        assertThat(stats.count()).isEqualTo(2);
+        assertThat(stats.totalPopulation()).isEqualTo(79_000_000L);
+        assertThat(stats.minPopulation()).isEqualTo(19_000_000L);
+        assertThat(stats.maxPopulation()).isEqualTo(60_000_000L);
+        assertThat(stats.top()).extracting(Country::code).containsExactly("PE", "CL");
+        assertThat(stats.percentiles()).containsOnlyKeys("p50", "p99.9");
+    }
+
+    /**
+     * Validates percentiles stay within the histogram precision over a wide range of populations.
+     */
+    @Test
+    void percentilesAreApproximate() {
+        load(LongStream.rangeClosed(1, 1000)
+            .mapToObj(i -> new Country(i, "Country " + i, "C" + i, i * 1_000_003L))
+            .toList());
+
+        CountryStats stats = statsTracker.stats().orElseThrow();
+        assertThat(stats.top()).extracting(Country::id).containsExactly(1000L, 999L);
+        assertThat(stats.percentiles().get("p50")).isCloseTo(500 * 1_000_003L, within(500 * 1_000_003L * 4 / 100));
+        assertThat(stats.percentiles().get("p99.9")).isCloseTo(999 * 1_000_003L, within(999 * 1_000_003L * 4 / 100));
+    }
+
+    /**
+     * Validates nothing is reported before the statistics are loaded.
+     */
+    @Test
+    void statsAreEmptyUntilLoaded() {
+        statsTracker.onCountryChanged(CountryChangedEvent.saved(CHILE));
+
+        assertThat(statsTracker.stats()).isEmpty();
+        load(List.of());
+        assertThat(statsTracker.stats()).get().extracting(CountryStats::count).isEqualTo(0L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(List<Country> countries) {
+        doAnswer(invocation -> {
+            countries.forEach(invocation.<Consumer<Country>>getArgument(0));
+            return null;
+        }).when(countryData).streamAll(any(Consumer.class));
+        statsTracker.rebuild();
+    }
+}
@@ -0,0 +1,68 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COUNTRYVERSIONTRACKERTESTS.JAVA                             */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Added knownEtagsExpire.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.csoftz.country.common.event.CountryChangedEvent;
+import com.csoftz.country.domain.Country;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CountryVersionTracker class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CountryVersionTrackerTests {
+    private static final Country COLOMBIA = new Country(1L, "Colombia", "CO", 52_000_000L);
+    private static final Country UPDATED = new Country(1L, "Colombia", "CO", 53_000_000L);
+
+    /**
+     * Validates a tag computed from a country read before a change does not replace the
+     * tag the change set, while one read after it is remembered.
+     */
+    @Test
+    void etagFromStaleReadIsNotRemembered() {
+        CountryVersionTracker tracker = new CountryVersionTracker(Duration.ofMinutes(5), System::nanoTime);
+        long beforeWrite = tracker.collectionVersion();
+
+        tracker.onCountryChanged(CountryChangedEvent.saved(UPDATED));
+        String stale = tracker.etag(beforeWrite, COLOMBIA);
+
+        assertThat(tracker.knownEtag(1L)).isEqualTo(tracker.etag(UPDATED)).isNotEqualTo(stale);
+
+        tracker.onCountryChanged(CountryChangedEvent.deleted(1L));
+        assertThat(tracker.knownEtag(1L)).isNull();
+        String current = tracker.etag(tracker.collectionVersion(), UPDATED);
+        assertThat(tracker.knownEtag(1L)).isEqualTo(current);
+    }
+
+    /**
+     * Validates remembered tags are forgotten after the time to live, so a change made
+     * elsewhere cannot be hidden behind 304 responses for longer than the cache hides it.
+     */
+    @Test
+    void knownEtagsExpire() {
+        AtomicLong now = new AtomicLong();
+        CountryVersionTracker tracker = new CountryVersionTracker(Duration.ofNanos(100), now::get);
+        tracker.onCountryChanged(CountryChangedEvent.saved(COLOMBIA));
+        tracker.collectionEtag(tracker.collectionVersion(), List.of(COLOMBIA));
+
+        now.set(99);
+        assertThat(tracker.knownEtag(1L)).isEqualTo(tracker.etag(COLOMBIA));
+        assertThat(tracker.knownCollectionEtag()).isNotNull();
+        now.set(100);
+        assertThat(tracker.knownEtag(1L)).isNull();
+        assertThat(tracker.knownCollectionEtag()).isNull();
+    }
+}
@@ -0,0 +1,147 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEFAULTCOUNTRYIMPORTSERVICETESTS.JAVA                       */
+/* Copyright (c), 2026 CSoftZ                                                 */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.17/2026  COQ  File created.
+ Oct.17/2026  COQ  Wire the population buffer.
+ Oct.17/2026  COQ  Uses a real population buffer, which now runs the writes.
+ -----------------------------------------------------------------------------*/
+package com.csoftz.country.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csoftz.country.common.feed.CountryFeedReader;
+import com.csoftz.country.common.feed.CountryFeedRecord;
+import com.csoftz.country.config.CountryImportProperties;
+import com.csoftz.country.config.CountryPopulationBufferProperties;
+import com.csoftz.country.data.CountryData;
+import com.csoftz.country.domain.Country;
+import com.csoftz.country.domain.CountryImportError;
+import com.csoftz.country.domain.CountryImportResult;
+import com.csoftz.country.domain.CountryUpsertResult;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for DefaultCountryImportService class.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class DefaultCountryImportServiceTests {
+    private static final int CHUNK_SIZE = 10;
+
+    private ValidatorFactory validatorFactory;
+    private CountryData countryData;
+    private DefaultCountryImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        countryData = mock(CountryData.class);
+        importService = new DefaultCountryImportService(countryData, validatorFactory.getValidator(),
+            mock(ApplicationEventPublisher.class), new SimpleAsyncTaskExecutor(),
+            new CountryImportProperties(CHUNK_SIZE, 1, 2),
+            new CountryPopulationBuffer(countryData, new CountryPopulationBufferProperties(true, Duration.ofSeconds(1), 100)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Validates parsing stops a few chunks ahead of a slow writer and the summary counts every record.
+     */
+    @Test
+    void parsingWaitsForTheWriter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(countryData.upsertAllByCode(anyList())).thenAnswer(invocation -> {
+            release.await();
+            List<Country> chunk = invocation.getArgument(0);
+            return new CountryUpsertResult(chunk.subList(1, chunk.size()), chunk.subList(0, 1));
+        });
+        GeneratedFeed feed = new GeneratedFeed(1000);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<CountryImportResult> importing = executor.submit(() -> importService.importCountries(feed));
+            Thread.sleep(500);
+
+            // One chunk in the writer, one queued and one waiting to be queued.
+            assertThat(importing).isNotDone();
+            assertThat(feed.reads()).isLessThanOrEqualTo(3 * CHUNK_SIZE + 1);
+
+            release.countDown();
+            CountryImportResult result = importing.get(10, TimeUnit.SECONDS);
+            assertThat(result.rejected()).isEqualTo(10);
+            assertThat(result.inserted() + result.updated()).isEqualTo(990);
+            assertThat(result.updated()).isEqualTo(99);
+            assertThat(result.errors()).containsExactly(
+                new CountryImportError(1, "Population must be non-negative"),
+                new CountryImportError(101, "Population must be non-negative"));
+        }
+    }
+
+    /**
+     * Validates a failing write ends the import with its exception instead of leaving parsing blocked.
+     */
+    @Test
+    void writerFailureEndsImport() {
+        when(countryData.upsertAllByCode(anyList())).thenThrow(new DataAccessResourceFailureException("Connection lost"));
+        GeneratedFeed feed = new GeneratedFeed(100_000);
+
+        assertThatThrownBy(() -> importService.importCountries(feed))
+            .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(feed.reads()).isLessThan(100_000);
+    }
+
+    /**
+     * Feed of numbered countries where every hundredth one, starting with the first, has a negative population.
+     */
+    private static final class GeneratedFeed implements CountryFeedReader {
+        private final int size;
+        private final AtomicInteger reads = new AtomicInteger();
+
+        GeneratedFeed(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public CountryFeedRecord read() {
+            int line = reads.get() + 1;
+            if (line > size) {
+                return null;
+            }
+            reads.incrementAndGet();
+            long population = line % 100 == 1 ? -1 : line * 1000L;
+            return CountryFeedRecord.parsed(line, new Country(null, "Country " + line, "%03d".formatted(line % 1000), population));
+        }
+
+        @Override
+        public void close() {
+        }
+
+        int reads() {
+            return reads.get();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS country (
+    id NUMBER PRIMARY KEY,
+    name VARCHAR2(255),
+    code VARCHAR2(255),
+    population NUMBER
+);
+CREATE SEQUENCE IF NOT EXISTS country_seq START WITH 1 INCREMENT BY 1;
+CREATE UNIQUE INDEX IF NOT EXISTS country_code_idx ON country (code);
+CREATE INDEX IF NOT EXISTS country_population_idx ON country (population, id);